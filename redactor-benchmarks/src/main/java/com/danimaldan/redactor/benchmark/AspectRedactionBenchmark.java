@@ -0,0 +1,95 @@
+package com.danimaldan.redactor.benchmark;
+
+import com.danimaldan.redactor.aop.Redact;
+import com.danimaldan.redactor.applicator.HasAuthorityPredicate;
+import com.danimaldan.redactor.autoconfigure.RedactorAutoConfiguration;
+import com.danimaldan.redactor.benchmark.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls {@code @Redact} methods through a Spring AOP proxy, with the aspect auto-configured as in an application, so
+ * the proxy, the authority snapshot and the aspect's dispatch are measured along with redaction itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AspectRedactionBenchmark {
+    @Param
+    private Authorization authorization;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private UserService userService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.registerBean(HasAuthorityPredicate.class, authorization::getHasAuthorityPredicate);
+        applicationContext.register(BenchmarkConfiguration.class);
+        applicationContext.refresh();
+
+        userService = applicationContext.getBean(UserService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public User getUser() {
+        return userService.getUser();
+    }
+
+    @Benchmark
+    public List<User> getUsers() {
+        return userService.getUsers();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableAspectJAutoProxy
+    @Import(RedactorAutoConfiguration.class)
+    static class BenchmarkConfiguration {
+        @Bean
+        public UserService userService() {
+            return new UserService();
+        }
+    }
+
+    public static class UserService {
+        /**
+         * Returns a new user per call, as a repository would, so every call redacts unredacted data.
+         */
+        @Redact
+        public User getUser() {
+            return BenchmarkData.user(0);
+        }
+
+        @Redact
+        public List<User> getUsers() {
+            return BenchmarkData.users(100);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.danimaldan.redactor.benchmark;
+
+import com.danimaldan.redactor.applicator.HasAuthorityPredicate;
+
+/**
+ * The two extremes of a caller: one holding every authority, for whom nothing is redacted, and one holding none, for
+ * whom every field is.
+ */
+public enum Authorization {
+    ALL(authority -> true),
+    NONE(authority -> false);
+
+    private final HasAuthorityPredicate hasAuthorityPredicate;
+
+    Authorization(HasAuthorityPredicate hasAuthorityPredicate) {
+        this.hasAuthorityPredicate = hasAuthorityPredicate;
+    }
+
+    public HasAuthorityPredicate getHasAuthorityPredicate() {
+        return hasAuthorityPredicate;
+    }
+}
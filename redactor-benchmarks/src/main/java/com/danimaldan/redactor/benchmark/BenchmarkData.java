@@ -0,0 +1,94 @@
+package com.danimaldan.redactor.benchmark;
+
+import com.danimaldan.redactor.Redactable;
+import com.danimaldan.redactor.benchmark.domain.Address;
+import com.danimaldan.redactor.benchmark.domain.Contractor;
+import com.danimaldan.redactor.benchmark.domain.DriversLicense;
+import com.danimaldan.redactor.benchmark.domain.Employer;
+import com.danimaldan.redactor.benchmark.domain.EmploymentDetail;
+import com.danimaldan.redactor.benchmark.domain.Node;
+import com.danimaldan.redactor.benchmark.domain.User;
+import lombok.experimental.UtilityClass;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds fresh object graphs for the benchmarks, since redacting in place consumes them.
+ */
+@UtilityClass
+public class BenchmarkData {
+    /**
+     * A {@link User} nested four levels deep: {@code User -> EmploymentDetail -> Employer -> Address}.
+     */
+    public User user(int i) {
+        return User.builder()
+                .name("user" + i)
+                .password(Redactable.of("password" + i))
+                .driversLicense(Redactable.of(DriversLicense.builder()
+                        .driversLicenseNumber("D" + i)
+                        .issuingState("MN")
+                        .build()))
+                .emailAddress("user" + i + "@example.com")
+                .employmentDetails(EmploymentDetail.builder()
+                        .company("ACME")
+                        .startDate(LocalDate.of(2020, 1, 1))
+                        .salary(Redactable.of(100_000.0 + i))
+                        .employer(employer(i))
+                        .build())
+                .build();
+    }
+
+    public Contractor contractor(int i) {
+        return Contractor.builder()
+                .name("contractor" + i)
+                .hourlyRate(Redactable.of(100.0 + i))
+                .agency(employer(i))
+                .build();
+    }
+
+    public List<User> users(int size) {
+        List<User> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            users.add(user(i));
+        }
+
+        return users;
+    }
+
+    /**
+     * Alternates users and contractors, so consecutive elements never share a class.
+     */
+    public List<Object> mixed(int size) {
+        List<Object> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(i % 2 == 0 ? user(i) : contractor(i));
+        }
+
+        return values;
+    }
+
+    public Node chain(int depth) {
+        Node node = null;
+        for (int i = 0; i < depth; i++) {
+            node = Node.builder()
+                    .secret(Redactable.of("secret" + i))
+                    .next(node)
+                    .build();
+        }
+
+        return node;
+    }
+
+    private Employer employer(int i) {
+        return Employer.builder()
+                .name("employer" + i)
+                .taxId(Redactable.of("12-345" + i))
+                .address(Address.builder()
+                        .city("Minneapolis")
+                        .street(Redactable.of(i + " Main St"))
+                        .build())
+                .build();
+    }
+}
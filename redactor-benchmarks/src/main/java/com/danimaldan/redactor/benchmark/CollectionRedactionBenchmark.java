@@ -0,0 +1,107 @@
+package com.danimaldan.redactor.benchmark;
+
+import com.danimaldan.redactor.applicator.RedactionApplicatorFactory;
+import com.danimaldan.redactor.applicator.RedactionContext;
+import com.danimaldan.redactor.applicator.RedactionOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redacts lists of users, or of users and contractors mixed, from 1k up to 1M elements. Each element is four levels
+ * deep, so the nested passes dominate for callers that are allowed to see the nested objects.
+ * <p>
+ * Redacting in place consumes the list, so those benchmarks take a fresh one per invocation from {@link Values}. Each
+ * invocation takes milliseconds, which keeps the per invocation setup out of the score.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CollectionRedactionBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"USERS", "MIXED"})
+    private String elements;
+
+    @Param
+    private Authorization authorization;
+
+    private List<?> values;
+    private ForkJoinPool forkJoinPool;
+    private RedactionOptions parallelOptions;
+
+    @Setup(Level.Trial)
+    public void setUpPool() {
+        forkJoinPool = new ForkJoinPool();
+        parallelOptions = RedactionOptions.builder()
+                .parallelThreshold(10_000)
+                .forkJoinPool(forkJoinPool)
+                .build();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        values = build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        forkJoinPool.shutdown();
+    }
+
+    @Benchmark
+    public List<?> redactInPlace(Values fresh) {
+        RedactionApplicatorFactory.create(fresh.values, authorization.getHasAuthorityPredicate())
+                .redact();
+
+        return fresh.values;
+    }
+
+    @Benchmark
+    public List<?> redactInParallel(Values fresh) {
+        RedactionApplicatorFactory.create(fresh.values, authorization.getHasAuthorityPredicate(), parallelOptions)
+                .redact();
+
+        return fresh.values;
+    }
+
+    @Benchmark
+    public List<?> redactCopy() {
+        return RedactionApplicatorFactory.copy(values, new RedactionContext(authorization.getHasAuthorityPredicate()));
+    }
+
+    private List<?> build() {
+        return "USERS".equals(elements) ? BenchmarkData.users(size) : BenchmarkData.mixed(size);
+    }
+
+    /**
+     * A list that has not been redacted yet, rebuilt before every invocation.
+     */
+    @State(Scope.Thread)
+    public static class Values {
+        private List<?> values;
+
+        @Setup(Level.Invocation)
+        public void setUp(CollectionRedactionBenchmark benchmark) {
+            values = benchmark.build();
+        }
+    }
+}
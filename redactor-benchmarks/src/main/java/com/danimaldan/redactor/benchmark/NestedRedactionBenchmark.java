@@ -0,0 +1,50 @@
+package com.danimaldan.redactor.benchmark;
+
+import com.danimaldan.redactor.applicator.RedactionApplicatorFactory;
+import com.danimaldan.redactor.benchmark.domain.Node;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redacts a chain of nested objects, isolating the cost of each level of nesting from the cost of each object.
+ * <p>
+ * Redacting in place consumes the chain, and short chains are redacted too quickly for a per invocation setup to stay
+ * out of the score, so {@link #redactInPlace()} builds its own chain. Subtract {@link #build()} from its score.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NestedRedactionBenchmark {
+    @Param({"4", "64", "1024"})
+    private int depth;
+
+    @Param
+    private Authorization authorization;
+
+    @Benchmark
+    public Node build() {
+        return BenchmarkData.chain(depth);
+    }
+
+    @Benchmark
+    public Node redactInPlace() {
+        var chain = BenchmarkData.chain(depth);
+        RedactionApplicatorFactory.create(chain, authorization.getHasAuthorityPredicate())
+                .redact();
+
+        return chain;
+    }
+}
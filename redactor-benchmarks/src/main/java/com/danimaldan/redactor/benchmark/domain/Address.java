@@ -0,0 +1,15 @@
+package com.danimaldan.redactor.benchmark.domain;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class Address {
+    String city;
+
+    @RedactAuthorize("address:street:read")
+    Redactable<String> street;
+}
@@ -0,0 +1,18 @@
+package com.danimaldan.redactor.benchmark.domain;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class Contractor {
+    String name;
+
+    @RedactAuthorize("contractor:rate:read")
+    Redactable<Double> hourlyRate;
+
+    @RedactAuthorize
+    Employer agency;
+}
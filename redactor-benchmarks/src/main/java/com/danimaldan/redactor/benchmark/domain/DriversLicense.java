@@ -0,0 +1,11 @@
+package com.danimaldan.redactor.benchmark.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class DriversLicense {
+    String driversLicenseNumber;
+    String issuingState;
+}
@@ -0,0 +1,18 @@
+package com.danimaldan.redactor.benchmark.domain;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class Employer {
+    String name;
+
+    @RedactAuthorize("employer:taxId:read")
+    Redactable<String> taxId;
+
+    @RedactAuthorize
+    Address address;
+}
@@ -0,0 +1,19 @@
+package com.danimaldan.redactor.benchmark.domain;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Link of an arbitrarily deep chain, for measuring nesting depth on its own.
+ */
+@Value
+@Builder
+public class Node {
+    @RedactAuthorize("node:secret:read")
+    Redactable<String> secret;
+
+    @RedactAuthorize
+    Node next;
+}
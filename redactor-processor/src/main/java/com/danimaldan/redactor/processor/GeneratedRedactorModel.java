@@ -0,0 +1,20 @@
+package com.danimaldan.redactor.processor;
+
+import java.util.List;
+
+/**
+ * Everything needed to write the source of a single generated redactor.
+ *
+ * @param typeReference source reference to the redacted type, including wildcards for any type parameters
+ */
+record GeneratedRedactorModel(String packageName, String simpleName, String typeReference, List<Field> fields) {
+    /**
+     * @param requiredAuthority authority from {@code @RedactAuthorize}, empty if only nested props are authorized
+     * @param description       field name used in error messages
+     */
+    record Field(String name, String getterName, String requiredAuthority, boolean redactable, boolean primitive, String description) {
+        boolean requiresAuthority() {
+            return !requiredAuthority.isEmpty();
+        }
+    }
+}
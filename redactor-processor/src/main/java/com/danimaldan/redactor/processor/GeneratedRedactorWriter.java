@@ -0,0 +1,136 @@
+package com.danimaldan.redactor.processor;
+
+import javax.lang.model.util.Elements;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+/**
+ * Writes the source of a generated redactor. Every field is read through its getter exactly once, and required
+ * authorities are interned once when the generated redactor is loaded.
+ */
+class GeneratedRedactorWriter {
+    private static final String INDENT = "    ";
+
+    private final Elements elements;
+
+    GeneratedRedactorWriter(Elements elements) {
+        this.elements = elements;
+    }
+
+    void write(GeneratedRedactorModel redactor, Writer writer) throws IOException {
+        var source = new StringBuilder();
+
+        if (!redactor.packageName().isEmpty()) {
+            source.append("package ").append(redactor.packageName()).append(";\n\n");
+        }
+
+        source.append("import com.danimaldan.redactor.applicator.AuthorityRegistry;\n")
+                .append("import com.danimaldan.redactor.applicator.GeneratedRedactor;\n")
+                .append("import com.danimaldan.redactor.applicator.RedactionContext;\n\n")
+                .append("import javax.annotation.processing.Generated;\n\n")
+                .append("@Generated(\"").append(RedactorProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(redactor.simpleName())
+                .append(" implements GeneratedRedactor<").append(redactor.typeReference()).append("> {\n");
+
+        var authorityConstants = authorityConstants(redactor);
+        for (var field : redactor.fields()) {
+            var authorityConstant = authorityConstants.get(field);
+            if (authorityConstant != null) {
+                source.append(INDENT).append("private static final int ").append(authorityConstant)
+                        .append(" = AuthorityRegistry.intern(").append(elements.getConstantExpression(field.requiredAuthority())).append(");\n");
+            }
+        }
+
+        if (!authorityConstants.isEmpty()) {
+            source.append('\n');
+        }
+
+        source.append(INDENT).append("@Override\n")
+                .append(INDENT).append("public void redact(").append(redactor.typeReference()).append(" object, RedactionContext context) {\n");
+
+        var first = true;
+        for (var field : redactor.fields()) {
+            if (!first) {
+                source.append('\n');
+            }
+            first = false;
+
+            writeField(field, authorityConstants.get(field), source);
+        }
+
+        source.append(INDENT).append("}\n\n")
+                .append(INDENT).append("@Override\n")
+                .append(INDENT).append("public int getFieldCount() {\n")
+                .append(INDENT).append(INDENT).append("return ").append(redactor.fields().size()).append(";\n")
+                .append(INDENT).append("}\n")
+                .append("}\n");
+
+        writer.write(source.toString());
+    }
+
+    /**
+     * Names a constant holding the interned id of each field's required authority, e.g. {@code PASSWORD_AUTHORITY}.
+     */
+    private Map<GeneratedRedactorModel.Field, String> authorityConstants(GeneratedRedactorModel redactor) {
+        Map<GeneratedRedactorModel.Field, String> authorityConstants = new HashMap<>();
+        var usedNames = new HashSet<String>();
+
+        for (var field : redactor.fields()) {
+            if (!field.requiresAuthority()) {
+                continue;
+            }
+
+            var name = field.name().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase() + "_AUTHORITY";
+            var uniqueName = name;
+            for (var i = 2; !usedNames.add(uniqueName); i++) {
+                // a superclass declares a field with the same name
+                uniqueName = name + "_" + i;
+            }
+
+            authorityConstants.put(field, uniqueName);
+        }
+
+        return authorityConstants;
+    }
+
+    private void writeField(GeneratedRedactorModel.Field field, String authorityConstant, StringBuilder source) {
+        var indent = INDENT + INDENT;
+        var variable = field.name() + "Value";
+        var description = elements.getConstantExpression(field.description());
+
+        if (field.primitive()) {
+            // primitives have no child properties, and can never be redacted
+            if (field.requiresAuthority()) {
+                source.append(indent).append("if (!context.isGranted(").append(authorityConstant).append(")) {\n")
+                        .append(indent).append(INDENT).append("context.denyNonRedactable(").append(description).append(");\n")
+                        .append(indent).append("}\n");
+            }
+
+            return;
+        }
+
+        source.append(indent).append("var ").append(variable).append(" = object.").append(field.getterName()).append("();\n");
+
+        if (!field.requiresAuthority()) {
+            source.append(indent).append("context.redactNested(").append(variable).append(");\n");
+
+            return;
+        }
+
+        source.append(indent).append("if (context.isGranted(").append(authorityConstant).append(")) {\n")
+                .append(indent).append(INDENT).append("context.redactNested(").append(variable).append(");\n");
+
+        if (field.redactable()) {
+            source.append(indent).append("} else {\n")
+                    .append(indent).append(INDENT).append("context.redact(").append(variable).append(", ").append(authorityConstant).append(");\n");
+        } else {
+            source.append(indent).append("} else {\n")
+                    .append(indent).append(INDENT).append("context.denyNonRedactable(").append(description).append(");\n");
+        }
+
+        source.append(indent).append("}\n");
+    }
+}
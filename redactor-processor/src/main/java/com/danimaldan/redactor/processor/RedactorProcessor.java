@@ -0,0 +1,407 @@
+package com.danimaldan.redactor.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates a {@code GeneratedRedactor} for every class having {@code @RedactAuthorize} fields, e.g. {@code UserRedactor}
+ * for {@code User}. The generated redactor calls getters directly, so the redactor library does not need reflection for
+ * these classes at runtime.
+ * <p>
+ * Classes that cannot be referenced from generated code in the same package, i.e. private, local or anonymous classes,
+ * are skipped and keep using reflection.
+ * <p>
+ * Fields may also be annotated with a composed annotation that is meta-annotated with {@code @RedactAuthorize}, so every
+ * annotation type in a round is inspected, not just {@code @RedactAuthorize} itself.
+ */
+@SupportedAnnotationTypes("*")
+public class RedactorProcessor extends AbstractProcessor {
+    static final String REDACT_AUTHORIZE = "com.danimaldan.redactor.RedactAuthorize";
+    static final String REDACTABLE = "com.danimaldan.redactor.Redactable";
+    static final String NULL_MASKING_STRATEGY = "com.danimaldan.redactor.masking.NullMaskingStrategy";
+    static final String ALIAS_FOR = "org.springframework.core.annotation.AliasFor";
+    static final String GENERATED_REDACTOR_SUFFIX = "Redactor";
+
+    private final Set<String> generatedRedactorNames = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        var redactAuthorize = processingEnv.getElementUtils().getTypeElement(REDACT_AUTHORIZE);
+        if (redactAuthorize == null) {
+            return false;
+        }
+
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            if (!isRedactAuthorize(annotation, new HashSet<>())) {
+                continue;
+            }
+
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD && element.getEnclosingElement() instanceof TypeElement type) {
+                    types.add(type);
+                }
+            }
+        }
+
+        for (TypeElement type : types) {
+            if (!isSupported(type)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Not generating a redactor for " + type.getQualifiedName() + ", it is not accessible from its package. Reflection will be used instead.", type);
+            } else if (usesRuntimeOnlyAttributes(type)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Not generating a redactor for " + type.getQualifiedName() + ", it has @RedactAuthorize fields with allOf, anyOf, an expression or a mask. Reflection will be used instead.", type);
+            } else {
+                generate(type);
+            }
+        }
+
+        // @RedactAuthorize is also read at runtime, and every other annotation belongs to someone else, never claim them
+        return false;
+    }
+
+    /**
+     * Determines if an annotation type is {@code @RedactAuthorize}, or is meta-annotated with it.
+     */
+    private boolean isRedactAuthorize(TypeElement annotationType, Set<String> visited) {
+        var name = annotationType.getQualifiedName().toString();
+        if (name.equals(REDACT_AUTHORIZE)) {
+            return true;
+        }
+
+        if (name.startsWith("java.lang.annotation.") || !visited.add(name)) {
+            return false;
+        }
+
+        for (var metaAnnotation : annotationType.getAnnotationMirrors()) {
+            if (isRedactAuthorize((TypeElement) metaAnnotation.getAnnotationType().asElement(), visited)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isSupported(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.RECORD) {
+            return false;
+        }
+
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+
+        Element element = type;
+        while (element instanceof TypeElement typeElement) {
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+
+            if (typeElement.getNestingKind() == NestingKind.LOCAL || typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+
+            element = typeElement.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    /**
+     * Determines if any field of the type or its superclasses needs more than a single authority, or is masked, which
+     * generated redactors do not support.
+     */
+    private boolean usesRuntimeOnlyAttributes(TypeElement type) {
+        TypeElement currentType = type;
+        while (currentType != null) {
+            for (VariableElement field : ElementFilter.fieldsIn(currentType.getEnclosedElements())) {
+                for (var annotationMirror : field.getAnnotationMirrors()) {
+                    if (hasRuntimeOnlyAttribute(annotationMirror, new HashSet<>())) {
+                        return true;
+                    }
+                }
+            }
+
+            currentType = currentType.getSuperclass() instanceof DeclaredType superclass
+                    ? (TypeElement) superclass.asElement()
+                    : null;
+        }
+
+        return false;
+    }
+
+    private boolean hasRuntimeOnlyAttribute(AnnotationMirror annotationMirror, Set<String> visited) {
+        var annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+        var name = annotationType.getQualifiedName().toString();
+
+        if (name.equals(REDACT_AUTHORIZE)) {
+            return !stringValue(annotationMirror, "expression").isEmpty()
+                    || attributeValue(annotationMirror, "allOf") instanceof List<?> allOf && !allOf.isEmpty()
+                    || attributeValue(annotationMirror, "anyOf") instanceof List<?> anyOf && !anyOf.isEmpty()
+                    || !NULL_MASKING_STRATEGY.equals(typeValue(annotationMirror, "mask"));
+        }
+
+        if (name.startsWith("java.lang.annotation.") || !visited.add(name)) {
+            return false;
+        }
+
+        for (var metaAnnotation : annotationType.getAnnotationMirrors()) {
+            if (hasRuntimeOnlyAttribute(metaAnnotation, visited)) {
+                return true;
+            }
+        }
+
+        // composed annotations aliasing these attributes are not resolved, so treat them as set
+        return isRedactAuthorize(annotationType, new HashSet<>()) && findAliasedAttribute(annotationType, "allOf", "anyOf", "expression", "mask");
+    }
+
+    private boolean findAliasedAttribute(TypeElement annotationType, String... aliasedAttributes) {
+        for (ExecutableElement attribute : ElementFilter.methodsIn(annotationType.getEnclosedElements())) {
+            var aliasedAttribute = findAliasedRedactAuthorizeAttribute(attribute);
+
+            if (aliasedAttribute != null && List.of(aliasedAttributes).contains(aliasedAttribute)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        var packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        var simpleName = generatedRedactorSimpleName(type);
+        var qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        if (!generatedRedactorNames.add(qualifiedName)) {
+            return;
+        }
+
+        var redactor = new GeneratedRedactorModel(packageName, simpleName, typeReference(type), collectFields(type));
+
+        try (var writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            new GeneratedRedactorWriter(processingEnv.getElementUtils()).write(redactor, writer);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write generated redactor " + qualifiedName + ". Details: " + e.getMessage(), type);
+        }
+    }
+
+    /**
+     * Mirrors the runtime lookup, which replaces {@code $} in the binary class name with {@code _}.
+     */
+    private String generatedRedactorSimpleName(TypeElement type) {
+        var name = new StringBuilder(type.getSimpleName());
+
+        var enclosingElement = type.getEnclosingElement();
+        while (!(enclosingElement instanceof PackageElement)) {
+            name.insert(0, enclosingElement.getSimpleName() + "_");
+            enclosingElement = enclosingElement.getEnclosingElement();
+        }
+
+        return name.append(GENERATED_REDACTOR_SUFFIX).toString();
+    }
+
+    private String typeReference(TypeElement type) {
+        var typeReference = type.getQualifiedName().toString();
+
+        if (type.getTypeParameters().isEmpty()) {
+            return typeReference;
+        }
+
+        return typeReference + "<" + String.join(", ", type.getTypeParameters().stream().map(typeParameter -> "?").toList()) + ">";
+    }
+
+    private List<GeneratedRedactorModel.Field> collectFields(TypeElement type) {
+        List<GeneratedRedactorModel.Field> fields = new ArrayList<>();
+
+        // subclass fields first, matching the order fields are visited at runtime
+        TypeElement currentType = type;
+        while (currentType != null) {
+            for (VariableElement field : ElementFilter.fieldsIn(currentType.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+
+                var redactAuthorize = findRedactAuthorize(field);
+                if (redactAuthorize != null) {
+                    fields.add(new GeneratedRedactorModel.Field(
+                            field.getSimpleName().toString(),
+                            getterName(type, field),
+                            redactAuthorize,
+                            isRedactable(field),
+                            field.asType().getKind().isPrimitive(),
+                            currentType.getQualifiedName() + "." + field.getSimpleName()
+                    ));
+                }
+            }
+
+            currentType = currentType.getSuperclass() instanceof DeclaredType superclass
+                    ? (TypeElement) superclass.asElement()
+                    : null;
+        }
+
+        return fields;
+    }
+
+    /**
+     * Returns the required authority of a {@code @RedactAuthorize} field, or {@code null} if the field is not annotated.
+     * Mirrors the runtime's merged annotation lookup: {@code readAuthority} is an alias of {@code value}, and composed
+     * annotations may override either through {@code @AliasFor}.
+     */
+    private String findRedactAuthorize(VariableElement field) {
+        for (var annotationMirror : field.getAnnotationMirrors()) {
+            var authority = findAuthority(annotationMirror, new HashSet<>());
+            if (authority != null) {
+                return authority;
+            }
+        }
+
+        return null;
+    }
+
+    private String findAuthority(AnnotationMirror annotationMirror, Set<String> visited) {
+        var annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+        var name = annotationType.getQualifiedName().toString();
+
+        if (name.equals(REDACT_AUTHORIZE)) {
+            var value = stringValue(annotationMirror, "value");
+
+            return value.isEmpty() ? stringValue(annotationMirror, "readAuthority") : value;
+        }
+
+        if (name.startsWith("java.lang.annotation.") || !visited.add(name)) {
+            return null;
+        }
+
+        for (var metaAnnotation : annotationType.getAnnotationMirrors()) {
+            var authority = findAuthority(metaAnnotation, visited);
+            if (authority != null) {
+                var override = findAuthorityOverride(annotationMirror, annotationType);
+
+                return override != null ? override : authority;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the value of an attribute of a composed annotation declared as {@code @AliasFor} the authority of
+     * {@code @RedactAuthorize}, or {@code null} if it has none.
+     */
+    private String findAuthorityOverride(AnnotationMirror annotationMirror, TypeElement annotationType) {
+        for (ExecutableElement attribute : ElementFilter.methodsIn(annotationType.getEnclosedElements())) {
+            var aliasedAttribute = findAliasedRedactAuthorizeAttribute(attribute);
+
+            if ("value".equals(aliasedAttribute) || "readAuthority".equals(aliasedAttribute)) {
+                return stringValue(annotationMirror, attribute.getSimpleName().toString());
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the name of the {@code @RedactAuthorize} attribute a composed annotation's attribute is declared
+     * {@code @AliasFor}, or {@code null} if it is not an alias for one.
+     */
+    private String findAliasedRedactAuthorizeAttribute(ExecutableElement attribute) {
+        for (var aliasFor : attribute.getAnnotationMirrors()) {
+            if (!((TypeElement) aliasFor.getAnnotationType().asElement()).getQualifiedName().contentEquals(ALIAS_FOR)) {
+                continue;
+            }
+
+            if (!REDACT_AUTHORIZE.equals(typeValue(aliasFor, "annotation"))) {
+                return null;
+            }
+
+            var aliasedAttribute = stringValue(aliasFor, "attribute");
+            if (aliasedAttribute.isEmpty()) {
+                aliasedAttribute = stringValue(aliasFor, "value");
+            }
+
+            return aliasedAttribute.isEmpty() ? attribute.getSimpleName().toString() : aliasedAttribute;
+        }
+
+        return null;
+    }
+
+    private String stringValue(AnnotationMirror annotationMirror, String attributeName) {
+        var value = attributeValue(annotationMirror, attributeName);
+
+        return value instanceof String string ? string : "";
+    }
+
+    private String typeValue(AnnotationMirror annotationMirror, String attributeName) {
+        var value = attributeValue(annotationMirror, attributeName);
+
+        return value instanceof DeclaredType declaredType ? ((TypeElement) declaredType.asElement()).getQualifiedName().toString() : null;
+    }
+
+    private Object attributeValue(AnnotationMirror annotationMirror, String attributeName) {
+        for (var entry : processingEnv.getElementUtils().getElementValuesWithDefaults(annotationMirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(attributeName)) {
+                return entry.getValue().getValue();
+            }
+        }
+
+        return null;
+    }
+
+    private boolean isRedactable(VariableElement field) {
+        var redactable = processingEnv.getElementUtils().getTypeElement(REDACTABLE);
+        var types = processingEnv.getTypeUtils();
+
+        return redactable != null && types.isAssignable(types.erasure(field.asType()), types.erasure(redactable.asType()));
+    }
+
+    /**
+     * Resolves the getter the same way the reflective applicators do: record accessors for records, otherwise an
+     * {@code is} or {@code get} getter. Getters generated by Lombok may not be visible yet, so fall back to the JavaBeans
+     * naming convention.
+     */
+    private String getterName(TypeElement type, VariableElement field) {
+        var fieldName = field.getSimpleName().toString();
+
+        if (type.getKind() == ElementKind.RECORD) {
+            return fieldName;
+        }
+
+        var capitalizedFieldName = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+
+        for (var getterName : List.of("is" + capitalizedFieldName, "get" + capitalizedFieldName)) {
+            for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+                if (method.getSimpleName().contentEquals(getterName) && method.getParameters().isEmpty()) {
+                    return getterName;
+                }
+            }
+        }
+
+        return field.asType().getKind() == TypeKind.BOOLEAN
+                ? "is" + capitalizedFieldName
+                : "get" + capitalizedFieldName;
+    }
+}
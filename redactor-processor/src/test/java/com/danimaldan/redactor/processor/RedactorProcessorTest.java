@@ -0,0 +1,186 @@
+package com.danimaldan.redactor.processor;
+
+import com.danimaldan.redactor.Redactable;
+import com.danimaldan.redactor.applicator.GeneratedRedactor;
+import com.danimaldan.redactor.applicator.RedactionContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.annotation.AliasFor;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedactorProcessorTest {
+    private static final String USER_SOURCE = """
+            package com.example;
+
+            import com.danimaldan.redactor.RedactAuthorize;
+            import com.danimaldan.redactor.Redactable;
+
+            public class User {
+                private final String username;
+
+                @RedactAuthorize(readAuthority = "password:read")
+                private final Redactable<String> password;
+
+                @RedactAuthorize
+                private final Contract contract;
+
+                public User(String username, Redactable<String> password, Contract contract) {
+                    this.username = username;
+                    this.password = password;
+                    this.contract = contract;
+                }
+
+                public String getUsername() {
+                    return username;
+                }
+
+                public Redactable<String> getPassword() {
+                    return password;
+                }
+
+                public Contract getContract() {
+                    return contract;
+                }
+
+                public static class Contract {
+                    @Confidential(authority = "contract:salary:read")
+                    private final Redactable<Double> salary;
+
+                    public Contract(Redactable<Double> salary) {
+                        this.salary = salary;
+                    }
+
+                    public Redactable<Double> getSalary() {
+                        return salary;
+                    }
+                }
+
+                @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+                @RedactAuthorize("confidential:read")
+                public @interface Confidential {
+                    @org.springframework.core.annotation.AliasFor(annotation = RedactAuthorize.class, attribute = "value")
+                    String authority() default "confidential:read";
+                }
+
+                public static class Badge {
+                    @RedactAuthorize(anyOf = {"badge:read", "security:read"})
+                    private Redactable<String> code;
+
+                    public Redactable<String> getCode() {
+                        return code;
+                    }
+                }
+
+                public static class Card {
+                    @RedactAuthorize(value = "card:read", mask = com.danimaldan.redactor.masking.PartialMaskingStrategy.class)
+                    private Redactable<String> number;
+
+                    public Redactable<String> getNumber() {
+                        return number;
+                    }
+                }
+
+                private static class Hidden {
+                    @RedactAuthorize("hidden:read")
+                    private Redactable<String> secret;
+                }
+            }
+            """;
+
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    void process_generatesRedactorForEachAccessibleType() throws Exception {
+        compile();
+
+        assertTrue(Files.exists(outputDirectory.resolve("com/example/UserRedactor.java")));
+        assertTrue(Files.exists(outputDirectory.resolve("com/example/User_ContractRedactor.java")));
+        assertFalse(Files.exists(outputDirectory.resolve("com/example/User_HiddenRedactor.java")));
+        assertFalse(Files.exists(outputDirectory.resolve("com/example/User_BadgeRedactor.java")));
+        assertFalse(Files.exists(outputDirectory.resolve("com/example/User_CardRedactor.java")));
+
+        var source = Files.readString(outputDirectory.resolve("com/example/UserRedactor.java"));
+        assertTrue(source.contains("public final class UserRedactor implements GeneratedRedactor<com.example.User>"));
+        assertTrue(source.contains("object.getPassword()"));
+        assertTrue(source.contains("PASSWORD_AUTHORITY = AuthorityRegistry.intern(\"password:read\")"));
+        assertTrue(source.contains("context.isGranted(PASSWORD_AUTHORITY)"));
+        assertTrue(source.contains("public int getFieldCount()"));
+
+        var contractSource = Files.readString(outputDirectory.resolve("com/example/User_ContractRedactor.java"));
+        assertTrue(contractSource.contains("SALARY_AUTHORITY = AuthorityRegistry.intern(\"contract:salary:read\")"));
+    }
+
+    @Test
+    void generatedRedactor_redactsUnauthorizedFields() throws Exception {
+        compile();
+
+        try (var classLoader = new URLClassLoader(new URL[]{outputDirectory.toUri().toURL()}, getClass().getClassLoader())) {
+            var contractClass = classLoader.loadClass("com.example.User$Contract");
+            var userClass = classLoader.loadClass("com.example.User");
+
+            var contract = contractClass.getConstructor(Redactable.class).newInstance(Redactable.of(100_000.0));
+            var user = userClass.getConstructor(String.class, Redactable.class, contractClass).newInstance("bananas", Redactable.of("foster"), contract);
+
+            @SuppressWarnings("unchecked")
+            var userRedactor = (GeneratedRedactor<Object>) classLoader.loadClass("com.example.UserRedactor").getConstructor().newInstance();
+            userRedactor.redact(user, new RedactionContext("password:read"::equals));
+
+            var password = (Redactable<?>) userClass.getMethod("getPassword").invoke(user);
+            assertEquals("foster", password.getValue());
+            assertFalse(password.isRedacted());
+
+            var salary = (Redactable<?>) contractClass.getMethod("getSalary").invoke(contract);
+            assertNull(salary.getValue());
+            assertTrue(salary.isRedacted());
+        }
+    }
+
+    private void compile() throws Exception {
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+
+        try (var fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(outputDirectory.toFile()));
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(outputDirectory.toFile()));
+            fileManager.setLocation(StandardLocation.CLASS_PATH, List.of(classpathEntry(Redactable.class), classpathEntry(AliasFor.class)));
+
+            var task = compiler.getTask(null, fileManager, diagnostics, List.of("-Xlint:none"), null, List.of(new SourceFile("com.example.User", USER_SOURCE)));
+            task.setProcessors(List.of(new RedactorProcessor()));
+
+            assertTrue(task.call(), () -> "Compilation failed: " + diagnostics.getDiagnostics());
+        }
+    }
+
+    private static File classpathEntry(Class<?> type) throws Exception {
+        return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI());
+    }
+
+    private static class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        SourceFile(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.danimaldan.redactor.domain;
+
+import com.danimaldan.redactor.Redactable;
+import com.danimaldan.redactor.applicator.RedactionContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserRedactorTest {
+    @Test
+    void redact_generatedRedactorRedactsUnauthorizedFields() {
+        var user = User.builder()
+                .name("John Doe")
+                .password(Redactable.of("catsaredumb"))
+                .employmentDetails(EmploymentDetail.builder()
+                        .company("ACME")
+                        .salary(Redactable.of(120_000.0))
+                        .build())
+                .build();
+
+        new UserRedactor().redact(user, new RedactionContext("employment:salary:read"::equals));
+
+        assertNull(user.getPassword().getValue());
+        assertTrue(user.getPassword().isRedacted());
+        assertNull(user.getDriversLicense());
+
+        assertEquals(120_000.0, user.getEmploymentDetails().getSalary().getValue());
+        assertFalse(user.getEmploymentDetails().getSalary().isRedacted());
+    }
+}
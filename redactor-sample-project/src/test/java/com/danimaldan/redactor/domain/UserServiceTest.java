@@ -3,6 +3,7 @@ package com.danimaldan.redactor.domain;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -32,4 +33,19 @@ class UserServiceTest {
         assertNull(employmentDetails.getSalary().getValue());
         assertTrue(employmentDetails.getSalary().isRedacted());
     }
+
+    @Test
+    @WithMockUser(authorities = {"user:password:read", "employment:salary:read"})
+    void getUser_authorizedFieldsPassThrough() {
+        var user = userService.getUser();
+
+        assertEquals("catsaredumb", user.getPassword().getValue());
+        assertFalse(user.getPassword().isRedacted());
+
+        assertNull(user.getDriversLicense().getValue());
+        assertTrue(user.getDriversLicense().isRedacted());
+
+        assertEquals(120_000.0, user.getEmploymentDetails().getSalary().getValue());
+        assertFalse(user.getEmploymentDetails().getSalary().isRedacted());
+    }
 }
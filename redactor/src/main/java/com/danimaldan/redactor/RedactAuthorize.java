@@ -1,5 +1,7 @@
 package com.danimaldan.redactor;
 
+import com.danimaldan.redactor.masking.MaskingStrategy;
+import com.danimaldan.redactor.masking.NullMaskingStrategy;
 import org.springframework.core.annotation.AliasFor;
 
 import java.lang.annotation.ElementType;
@@ -7,20 +9,51 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
-@Target(ElementType.FIELD)
+/**
+ * Requires an authority to view a field. Can also be used as a meta-annotation, e.g. on a {@code @PiiField} annotation
+ * that is then placed on fields, whose attributes may override the authority through {@link AliasFor}. Annotations are
+ * resolved once per field, when its redaction plan is built.
+ */
+@Target({ElementType.FIELD, ElementType.ANNOTATION_TYPE})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface RedactAuthorize {
     /**
      * Required Spring Security authority to view field. Leave empty if only needing to authorize nested props.
      */
+    @AliasFor("readAuthority")
     String value() default "";
 
-    // TODO: Implement Spring annotation utils so this gets populated
     @AliasFor("value")
     String readAuthority() default "";
 
     /**
-     * Defaults to {@link #readAuthority()}, but can specify a separate authority that is required to update the field.
+     * Authorities that are all required to view the field, in addition to {@link #value()}.
+     */
+    String[] allOf() default {};
+
+    /**
+     * Authorities of which at least one is required to view the field, e.g. {@code {"hr:read", "manager:read"}}.
+     */
+    String[] anyOf() default {};
+
+    /**
+     * SpEL expression that must also evaluate to {@code true} to view the field, with the object declaring the field as
+     * {@code owner} and the current user's {@code principal}, e.g. {@code owner.username == principal.username}. See
+     * {@link com.danimaldan.redactor.applicator.AuthorityExpressionRoot} for what else is available. Parsed once per
+     * field, and only compiled if the declaring class is public, see
+     * {@link com.danimaldan.redactor.applicator.AuthorityRule}. Redacted views whose fields were decided by an
+     * expression are never cached.
+     */
+    String expression() default "";
+
+    /**
+     * Defaults to the rule for viewing the field, but can specify a separate authority that is required to update it.
      */
     String updateAuthority() default "";
+
+    /**
+     * Replaces the value of the {@link Redactable} field when redacted, instead of nulling it, e.g. with
+     * {@link com.danimaldan.redactor.masking.PartialMaskingStrategy}. Instantiated once per strategy class.
+     */
+    Class<? extends MaskingStrategy> mask() default NullMaskingStrategy.class;
 }
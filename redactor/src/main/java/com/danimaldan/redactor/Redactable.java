@@ -1,6 +1,25 @@
 package com.danimaldan.redactor;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Function;
+
 public class Redactable<T> {
+    private static final Redactable<?> REDACTED = new RedactedRedactable<>();
+
+    private static final VarHandle VALUE;
+    private static final VarHandle REDACTED_FLAG;
+
+    static {
+        try {
+            var lookup = MethodHandles.lookup();
+            VALUE = lookup.findVarHandle(Redactable.class, "value", Object.class);
+            REDACTED_FLAG = lookup.findVarHandle(Redactable.class, "redacted", boolean.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private T value;
     private boolean redacted = false;
 
@@ -17,11 +36,48 @@ public class Redactable<T> {
         return new Redactable<>(value);
     }
 
+    /**
+     * Returns a shared, immutable redacted instance. Use it for fields that are known to be redacted when the object is
+     * built, so large result sets do not allocate a wrapper per redacted field.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Redactable<T> redacted() {
+        return (Redactable<T>) REDACTED;
+    }
+
     public void redact() {
         value = null;
         redacted = true;
     }
 
+    /**
+     * Redacts the value by replacing it with a masked one, e.g. {@code ***-**-6789}, rather than nulling it.
+     */
+    public void redact(T replacement) {
+        value = replacement;
+        redacted = true;
+    }
+
+    /**
+     * Redacts the value by replacing it with its mask, unless it is already redacted. The mask is swapped in by a
+     * compare-and-set on the value it was computed from, so redactions racing on a shared instance never block each
+     * other, and only one of them replaces the value.
+     */
+    public void mask(Function<? super T, ? extends T> mask) {
+        if ((boolean) REDACTED_FLAG.getVolatile(this)) {
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        var current = (T) VALUE.getVolatile(this);
+        T replacement = current == null ? null : mask.apply(current);
+
+        // a redaction that swapped in its mask while this one computed its own has marked it redacted by now
+        if (!(boolean) REDACTED_FLAG.getVolatile(this) && VALUE.compareAndSet(this, current, replacement)) {
+            REDACTED_FLAG.setVolatile(this, true);
+        }
+    }
+
     public T getValue() {
         return value;
     }
@@ -33,4 +89,33 @@ public class Redactable<T> {
     public boolean isRedacted() {
         return redacted;
     }
+
+    /**
+     * The shared instance returned by {@link #redacted()}. Redacting it again is a no-op, and it cannot be given a value.
+     */
+    private static final class RedactedRedactable<T> extends Redactable<T> {
+        private RedactedRedactable() {
+            super(null, true);
+        }
+
+        @Override
+        public void redact() {
+            // already redacted
+        }
+
+        @Override
+        public void redact(T replacement) {
+            // already redacted, and there is no value to mask
+        }
+
+        @Override
+        public void mask(Function<? super T, ? extends T> mask) {
+            // already redacted, and there is no value to mask
+        }
+
+        @Override
+        public void setValue(T value) {
+            throw new UnsupportedOperationException("Redactable.redacted() is shared and cannot be given a value.");
+        }
+    }
 }
@@ -0,0 +1,75 @@
+package com.danimaldan.redactor.aop;
+
+import com.danimaldan.redactor.applicator.HasAuthorityPredicate;
+import com.danimaldan.redactor.applicator.RedactionApplicatorFactory;
+import com.danimaldan.redactor.applicator.RedactionContext;
+import com.danimaldan.redactor.applicator.RedactionOptions;
+import com.danimaldan.redactor.security.SecurityContextHasAuthorityPredicate;
+import lombok.experimental.UtilityClass;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Inserts redaction into Reactor pipelines as a {@code map} stage, so elements are redacted as they are emitted and
+ * never buffered. Reactor types are only referenced from {@link ReactorAdapter}, which is not loaded unless Reactor is
+ * on the classpath.
+ */
+@UtilityClass
+class ReactiveRedactionSupport {
+    private static final boolean REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Flux", ReactiveRedactionSupport.class.getClassLoader());
+
+    boolean isReactive(Object returnValue) {
+        return REACTOR_PRESENT && ReactorAdapter.isReactive(returnValue);
+    }
+
+    Object redact(Object publisher, HasAuthorityPredicate hasAuthorityPredicate, RedactionOptions options) {
+        return ReactorAdapter.redact(publisher, hasAuthorityPredicate, options);
+    }
+
+    private static class ReactorAdapter {
+        private static final boolean SECURITY_PRESENT = ClassUtils.isPresent("org.springframework.security.core.context.ReactiveSecurityContextHolder", ReactorAdapter.class.getClassLoader());
+
+        static boolean isReactive(Object returnValue) {
+            return returnValue instanceof Mono || returnValue instanceof Flux;
+        }
+
+        static Object redact(Object publisher, HasAuthorityPredicate hasAuthorityPredicate, RedactionOptions options) {
+            var authoritySnapshot = authoritySnapshot(hasAuthorityPredicate);
+
+            if (publisher instanceof Mono<?> mono) {
+                return authoritySnapshot.flatMap(snapshot -> {
+                    var context = new RedactionContext(snapshot, options);
+
+                    return mono.map(value -> RedactionApplicatorFactory.redact(value, context));
+                });
+            }
+
+            var flux = (Flux<?>) publisher;
+
+            return authoritySnapshot.flatMapMany(snapshot -> {
+                // one context per subscription, elements are emitted serially
+                var context = new RedactionContext(snapshot, options);
+
+                return flux.map(value -> RedactionApplicatorFactory.redact(value, context));
+            });
+        }
+
+        /**
+         * Captures the authorities at subscription time. WebFlux applications keep the security context in the
+         * subscriber context rather than a thread-local, so prefer that when the predicate is backed by Spring Security.
+         */
+        private static Mono<HasAuthorityPredicate> authoritySnapshot(HasAuthorityPredicate hasAuthorityPredicate) {
+            var threadLocalSnapshot = Mono.fromSupplier(hasAuthorityPredicate::snapshot);
+
+            if (SECURITY_PRESENT && hasAuthorityPredicate instanceof SecurityContextHasAuthorityPredicate) {
+                return ReactiveSecurityContextHolder.getContext()
+                        .<HasAuthorityPredicate>map(securityContext -> SecurityContextHasAuthorityPredicate.snapshotOf(securityContext.getAuthentication()))
+                        .switchIfEmpty(threadLocalSnapshot);
+            }
+
+            return threadLocalSnapshot;
+        }
+    }
+}
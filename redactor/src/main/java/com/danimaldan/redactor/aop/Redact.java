@@ -8,4 +8,22 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Redact {
+    /**
+     * Returned collections with at least this many elements are redacted in parallel on the redactor's
+     * {@link java.util.concurrent.ForkJoinPool}. Defaults to {@code 0}, which always redacts on the calling thread.
+     */
+    int parallelThreshold() default 0;
+
+    /**
+     * Return a redacted copy instead of redacting the returned objects in place, e.g. when they are shared with a
+     * cache. Untouched subtrees are shared with the original rather than copied.
+     */
+    boolean copy() default false;
+
+    /**
+     * Return a redacted copy from the redactor's {@link com.danimaldan.redactor.applicator.RedactedViewCache}, shared
+     * with every caller having the same authorities. Only suitable for objects that callers do not modify. Falls back
+     * to {@link #copy()} when no cache is configured.
+     */
+    boolean cache() default false;
 }
@@ -0,0 +1,21 @@
+package com.danimaldan.redactor.aop;
+
+import com.danimaldan.redactor.applicator.RedactionUpdateMode;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enforces {@link com.danimaldan.redactor.RedactAuthorize#updateAuthority()} on the annotated parameter before the
+ * method is called, e.g. on the body of an update request.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RedactUpdate {
+    /**
+     * What to do with changes to fields the current user may not update.
+     */
+    RedactionUpdateMode value() default RedactionUpdateMode.DISCARD;
+}
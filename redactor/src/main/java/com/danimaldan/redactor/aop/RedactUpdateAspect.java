@@ -0,0 +1,76 @@
+package com.danimaldan.redactor.aop;
+
+import com.danimaldan.redactor.applicator.HasAuthorityPredicate;
+import com.danimaldan.redactor.applicator.RedactionApplicatorFactory;
+import com.danimaldan.redactor.applicator.RedactionContext;
+import com.danimaldan.redactor.applicator.RedactionOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Enforces update authorities on the {@link RedactUpdate} parameters of a method before it is called. The annotated
+ * parameters are looked up once per method.
+ */
+@Slf4j
+@Aspect
+public class RedactUpdateAspect {
+    private final HasAuthorityPredicate hasAuthorityPredicate;
+    private final RedactionOptions options;
+    private final Map<Method, RedactUpdate[]> redactUpdates = new ConcurrentHashMap<>();
+
+    public RedactUpdateAspect(HasAuthorityPredicate hasAuthorityPredicate) {
+        this(hasAuthorityPredicate, RedactionOptions.DEFAULT);
+    }
+
+    public RedactUpdateAspect(HasAuthorityPredicate hasAuthorityPredicate, RedactionOptions options) {
+        this.hasAuthorityPredicate = hasAuthorityPredicate;
+        this.options = options;
+    }
+
+    @Around("execution(* *(.., @com.danimaldan.redactor.aop.RedactUpdate (*), ..))")
+    public Object performAround(ProceedingJoinPoint joinPoint) throws Throwable {
+        var method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        var parameterAnnotations = redactUpdates.computeIfAbsent(method, RedactUpdateAspect::findRedactUpdates);
+        var args = joinPoint.getArgs();
+
+        // capture the current user's authorities once for all parameters
+        RedactionContext context = null;
+
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            if (parameterAnnotations[i] != null && args[i] != null) {
+                if (context == null) {
+                    context = new RedactionContext(hasAuthorityPredicate.snapshot(), options);
+                }
+
+                RedactionApplicatorFactory.enforceUpdate(args[i], context, parameterAnnotations[i].value());
+            }
+        }
+
+        return joinPoint.proceed();
+    }
+
+    /**
+     * @return the {@link RedactUpdate} of each parameter, or {@code null} for parameters without one
+     */
+    private static RedactUpdate[] findRedactUpdates(Method method) {
+        var parameterAnnotations = method.getParameterAnnotations();
+        var redactUpdates = new RedactUpdate[parameterAnnotations.length];
+
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (var annotation : parameterAnnotations[i]) {
+                if (annotation instanceof RedactUpdate redactUpdate) {
+                    redactUpdates[i] = redactUpdate;
+                }
+            }
+        }
+
+        return redactUpdates;
+    }
+}
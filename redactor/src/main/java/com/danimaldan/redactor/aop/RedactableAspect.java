@@ -1,21 +1,92 @@
 package com.danimaldan.redactor.aop;
 
+import com.danimaldan.redactor.applicator.HasAuthorityPredicate;
 import com.danimaldan.redactor.applicator.RedactionApplicatorFactory;
+import com.danimaldan.redactor.applicator.RedactionContext;
+import com.danimaldan.redactor.applicator.RedactionOptions;
 import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.springframework.stereotype.Component;
+import org.aspectj.lang.reflect.MethodSignature;
 
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Redacts the return value of {@link Redact} methods. Asynchronous return values are redacted as their data arrives:
+ * {@link CompletionStage}s once they complete, and Reactor {@code Mono}s and {@code Flux}es element by element as they
+ * are emitted. {@link Stream}s, {@link Iterator}s and {@link Spliterator}s are redacted element by element as they are
+ * consumed.
+ */
 @Slf4j
 @Aspect
-@Component
 public class RedactableAspect {
-    @AfterReturning(pointcut = "@annotation(com.danimaldan.redactor.aop.Redact)", returning = "returnValue")
-    public Object performAround(Object returnValue) {
-        var redactionApplicator = RedactionApplicatorFactory.create(returnValue);
+    private final HasAuthorityPredicate hasAuthorityPredicate;
+    private final RedactionOptions options;
+
+    /**
+     * Options of each advised method, as tuned by its {@link Redact} annotation.
+     */
+    private final Map<Method, RedactionOptions> methodOptions = new ConcurrentHashMap<>();
+
+    public RedactableAspect(HasAuthorityPredicate hasAuthorityPredicate) {
+        this(hasAuthorityPredicate, RedactionOptions.DEFAULT);
+    }
+
+    public RedactableAspect(HasAuthorityPredicate hasAuthorityPredicate, RedactionOptions options) {
+        this.hasAuthorityPredicate = hasAuthorityPredicate;
+        this.options = options;
+    }
+
+    @Around(value = "@annotation(redact)", argNames = "joinPoint,redact")
+    public Object performAround(ProceedingJoinPoint joinPoint, Redact redact) throws Throwable {
+        var returnValue = joinPoint.proceed();
+        var method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        var redactionOptions = methodOptions.computeIfAbsent(method, key -> options.toBuilder()
+                .parallelThreshold(redact.parallelThreshold())
+                .copyOnRedact(options.isCopyOnRedact() || redact.copy() || redact.cache())
+                .viewCache(redact.cache() ? options.getViewCache() : null)
+                .build());
 
-        redactionApplicator.redact();
+        if (returnValue instanceof CompletionStage<?> completionStage) {
+            // the security context is not available on the completing thread, so capture the authorities now
+            var authoritySnapshot = hasAuthorityPredicate.snapshot();
+
+            return completionStage.thenApply(value -> redact(value, authoritySnapshot, redactionOptions, method));
+        }
+
+        if (returnValue instanceof Stream<?> stream) {
+            return RedactionApplicatorFactory.wrap(stream, new RedactionContext(hasAuthorityPredicate.snapshot(), redactionOptions));
+        }
+
+        if (returnValue instanceof Iterator<?> iterator) {
+            return RedactionApplicatorFactory.wrap(iterator, new RedactionContext(hasAuthorityPredicate.snapshot(), redactionOptions));
+        }
+
+        if (returnValue instanceof Spliterator<?> spliterator) {
+            return RedactionApplicatorFactory.wrap(spliterator, new RedactionContext(hasAuthorityPredicate.snapshot(), redactionOptions));
+        }
+
+        if (ReactiveRedactionSupport.isReactive(returnValue)) {
+            return ReactiveRedactionSupport.redact(returnValue, hasAuthorityPredicate, redactionOptions);
+        }
+
+        // capture the current user's authorities once for the whole return value
+        return redact(returnValue, hasAuthorityPredicate.snapshot(), redactionOptions, method);
+    }
 
-        return returnValue;
+    private static <T> T redact(T returnValue, HasAuthorityPredicate authoritySnapshot, RedactionOptions redactionOptions, Method method) {
+        var start = System.nanoTime();
+        try {
+            return RedactionApplicatorFactory.redact(returnValue, new RedactionContext(authoritySnapshot, redactionOptions));
+        } finally {
+            redactionOptions.getMetrics().methodRedacted(method, System.nanoTime() - start);
+        }
     }
 }
@@ -0,0 +1,20 @@
+package com.danimaldan.redactor.applicator;
+
+/**
+ * Decides whether the current user holds an interned authority. A single instance is used for a whole redaction pass,
+ * so implementations are free to memoize decisions for that pass.
+ *
+ * @see AuthorityRegistry
+ */
+@FunctionalInterface
+public interface AuthorityDecisions {
+    boolean isGranted(int authorityId);
+
+    /**
+     * Returns decisions that can be read concurrently by the workers of a parallel redaction pass. Implementations
+     * that memoize decisions without synchronization must override this.
+     */
+    default AuthorityDecisions shareable() {
+        return this;
+    }
+}
@@ -0,0 +1,23 @@
+package com.danimaldan.redactor.applicator;
+
+/**
+ * Creates the {@link AuthorityDecisions} used by a single redaction pass.
+ */
+@FunctionalInterface
+public interface AuthorityDecisionsFactory {
+    AuthorityDecisions create(HasAuthorityPredicate hasAuthorityPredicate);
+
+    /**
+     * Memoizes each decision in a bit set, so the predicate is asked at most once per authority per pass.
+     */
+    static AuthorityDecisionsFactory memoizing() {
+        return BitSetAuthorityDecisions::new;
+    }
+
+    /**
+     * Asks the predicate on every check.
+     */
+    static AuthorityDecisionsFactory uncached() {
+        return hasAuthorityPredicate -> authorityId -> hasAuthorityPredicate.hasAuthority(AuthorityRegistry.authorityOf(authorityId));
+    }
+}
@@ -0,0 +1,50 @@
+package com.danimaldan.redactor.applicator;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Root object of a {@link com.danimaldan.redactor.RedactAuthorize#expression()}, e.g.
+ * {@code owner.username == principal.username or hasAuthority('user:read')}.
+ */
+public class AuthorityExpressionRoot {
+    @Nullable
+    private final Object owner;
+    private final RedactionContext context;
+
+    AuthorityExpressionRoot(@Nullable Object owner, RedactionContext context) {
+        this.owner = owner;
+        this.context = context;
+    }
+
+    /**
+     * The object declaring the field.
+     */
+    @Nullable
+    public Object getOwner() {
+        return owner;
+    }
+
+    /**
+     * The principal of the current user, if the {@link HasAuthorityPredicate} knows it.
+     *
+     * @see HasAuthorityPredicate#getPrincipal()
+     */
+    @Nullable
+    public Object getPrincipal() {
+        return context.getPrincipal();
+    }
+
+    public boolean hasAuthority(String authority) {
+        return context.hasAuthority(authority);
+    }
+
+    public boolean hasAnyAuthority(String... authorities) {
+        for (String authority : authorities) {
+            if (context.hasAuthority(authority)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,67 @@
+package com.danimaldan.redactor.applicator;
+
+import java.util.Arrays;
+
+/**
+ * The decisions of the current user for every authority that can affect the redaction of a value. Users with equal
+ * fingerprints see the same redacted view of that value.
+ * <p>
+ * Objects whose {@link RedactionReach} is closed are fingerprinted by their reachable authorities only; any other value
+ * by every authority interned so far.
+ */
+final class AuthorityFingerprint {
+    private final int length;
+    private final long[] granted;
+    private final int hashCode;
+
+    private AuthorityFingerprint(int length, long[] granted) {
+        this.length = length;
+        this.granted = granted;
+        this.hashCode = 31 * length + Arrays.hashCode(granted);
+    }
+
+    static AuthorityFingerprint of(Object value, RedactionContext context) {
+        var type = value.getClass();
+        var reach = RedactionValueKind.of(type) == RedactionValueKind.OBJECT ? RedactionReach.forClass(type) : null;
+
+        if (reach != null && !reach.isOpen()) {
+            var authorityIds = reach.getAuthorityIds();
+            var granted = new long[(authorityIds.length + 63) >>> 6];
+            for (int i = 0; i < authorityIds.length; i++) {
+                if (context.isGranted(authorityIds[i])) {
+                    granted[i >>> 6] |= 1L << i;
+                }
+            }
+
+            return new AuthorityFingerprint(authorityIds.length, granted);
+        }
+
+        var size = AuthorityRegistry.size();
+        var granted = new long[(size + 63) >>> 6];
+        for (int authorityId = 0; authorityId < size; authorityId++) {
+            if (context.isGranted(authorityId)) {
+                granted[authorityId >>> 6] |= 1L << authorityId;
+            }
+        }
+
+        return new AuthorityFingerprint(size, granted);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof AuthorityFingerprint that)) {
+            return false;
+        }
+
+        return length == that.length && Arrays.equals(granted, that.granted);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
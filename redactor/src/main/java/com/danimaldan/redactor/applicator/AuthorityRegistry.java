@@ -0,0 +1,59 @@
+package com.danimaldan.redactor.applicator;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Interns every distinct authority string to a small, dense integer id. Authorities are interned when a
+ * {@link RedactionPlan} is compiled, so checking an authority during redaction is a bit test against
+ * {@link AuthorityDecisions} instead of a string comparison.
+ */
+@UtilityClass
+public class AuthorityRegistry {
+    /**
+     * Id of an empty authority, which is always granted.
+     */
+    public static final int NO_AUTHORITY = -1;
+
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static final CopyOnWriteArrayList<String> AUTHORITIES = new CopyOnWriteArrayList<>();
+
+    /**
+     * Returns the id of the given authority, assigning the next free id if it has not been seen before.
+     */
+    public int intern(String authority) {
+        if (authority == null || authority.isEmpty()) {
+            return NO_AUTHORITY;
+        }
+
+        var id = IDS.get(authority);
+        if (id != null) {
+            return id;
+        }
+
+        return IDS.computeIfAbsent(authority, key -> {
+            synchronized (AUTHORITIES) {
+                AUTHORITIES.add(key);
+
+                return AUTHORITIES.size() - 1;
+            }
+        });
+    }
+
+    /**
+     * Returns the authority interned under the given id.
+     */
+    public String authorityOf(int id) {
+        return AUTHORITIES.get(id);
+    }
+
+    /**
+     * Number of authorities interned so far. Ids are always less than this value.
+     */
+    public int size() {
+        return AUTHORITIES.size();
+    }
+}
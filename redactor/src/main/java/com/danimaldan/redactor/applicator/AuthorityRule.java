@@ -0,0 +1,233 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.StringJoiner;
+
+/**
+ * The authorization of a {@link RedactAuthorize} field, compiled once from its annotation: a required authority, all
+ * of {@link RedactAuthorize#allOf()}, any of {@link RedactAuthorize#anyOf()} and the
+ * {@link RedactAuthorize#expression()}, each only if given. Authorities are interned up front, so checking them is a
+ * bit test against the current user's decisions, and the expression is parsed once.
+ * <p>
+ * SpEL compiles an expression to bytecode once it is warm and every part of it has been evaluated at least once, e.g.
+ * both sides of an {@code or}. Compiled code calls getters through their declaring class, so only expressions whose
+ * properties are read from public classes compile, e.g.
+ * {@code (owner.username == principal) or hasAnyAuthority('hr:read', 'admin')} on a public owner with a public
+ * {@code getUsername()}. Expressions on fields of non-public classes are never compiled, so SpEL does not retry
+ * compiling them on every evaluation.
+ * <p>
+ * Expressions are compiled in {@link SpelCompilerMode#MIXED} mode rather than {@code IMMEDIATE}, since a compiled
+ * expression bakes in the classes it first saw, e.g. of the principal, and must fall back to interpretation when they
+ * differ instead of failing the redaction.
+ */
+public final class AuthorityRule {
+    public static final AuthorityRule NONE = new AuthorityRule(AuthorityRegistry.NO_AUTHORITY, new int[0], new int[0], null);
+
+    private static final ExpressionParser COMPILING_PARSER = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED, AuthorityRule.class.getClassLoader()));
+    private static final ExpressionParser INTERPRETING_PARSER = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.OFF, AuthorityRule.class.getClassLoader()));
+
+    /**
+     * Shared by all evaluations, the root object is passed per evaluation. Only allows reading properties and calling
+     * methods, so expressions cannot reference types or beans.
+     */
+    private static final EvaluationContext EVALUATION_CONTEXT = SimpleEvaluationContext.forReadOnlyDataBinding()
+            .withInstanceMethods()
+            .build();
+
+    private final int authorityId;
+    private final int[] allOfIds;
+    private final int[] anyOfIds;
+    @Nullable
+    private final Expression expression;
+    private final boolean simple;
+
+    private AuthorityRule(int authorityId, int[] allOfIds, int[] anyOfIds, @Nullable Expression expression) {
+        this.authorityId = authorityId;
+        this.allOfIds = allOfIds;
+        this.anyOfIds = anyOfIds;
+        this.expression = expression;
+        this.simple = allOfIds.length == 0 && anyOfIds.length == 0 && expression == null;
+    }
+
+    /**
+     * Compiles the rule for viewing a field.
+     *
+     * @param ownerType the class declaring the field, whose expression is only compiled by SpEL if it is public
+     * @throws org.springframework.expression.ParseException if the expression is invalid
+     */
+    public static AuthorityRule read(MergedAnnotation<RedactAuthorize> redactAuthorize, Class<?> ownerType) {
+        var expression = redactAuthorize.getString("expression");
+
+        Expression parsedExpression = null;
+        if (StringUtils.hasText(expression)) {
+            var parser = Modifier.isPublic(ownerType.getModifiers()) ? COMPILING_PARSER : INTERPRETING_PARSER;
+            parsedExpression = parser.parseExpression(expression);
+        }
+
+        return new AuthorityRule(
+                AuthorityRegistry.intern(redactAuthorize.getString("value")),
+                intern(redactAuthorize.getStringArray("allOf")),
+                intern(redactAuthorize.getStringArray("anyOf")),
+                parsedExpression
+        );
+    }
+
+    /**
+     * Compiles the rule for updating a field, which is its {@link RedactAuthorize#updateAuthority()}, or the rule for
+     * viewing it if none is given.
+     */
+    public static AuthorityRule update(MergedAnnotation<RedactAuthorize> redactAuthorize, AuthorityRule read) {
+        var updateAuthority = redactAuthorize.getString("updateAuthority");
+
+        return StringUtils.hasLength(updateAuthority) ? of(updateAuthority) : read;
+    }
+
+    /**
+     * A rule requiring a single authority.
+     */
+    public static AuthorityRule of(String authority) {
+        var authorityId = AuthorityRegistry.intern(authority);
+
+        return authorityId == AuthorityRegistry.NO_AUTHORITY ? NONE : new AuthorityRule(authorityId, new int[0], new int[0], null);
+    }
+
+    private static int[] intern(String[] authorities) {
+        return Arrays.stream(authorities)
+                .mapToInt(AuthorityRegistry::intern)
+                .filter(authorityId -> authorityId != AuthorityRegistry.NO_AUTHORITY)
+                .toArray();
+    }
+
+    /**
+     * Determines if the current user may access the field on the given object.
+     */
+    public boolean isGranted(RedactionContext context, @Nullable Object owner) {
+        if (simple) {
+            return context.isGranted(authorityId);
+        }
+
+        if (!context.isGranted(authorityId)) {
+            return false;
+        }
+
+        for (int allOfId : allOfIds) {
+            if (!context.isGranted(allOfId)) {
+                return false;
+            }
+        }
+
+        if (anyOfIds.length > 0 && !isAnyGranted(context)) {
+            return false;
+        }
+
+        if (expression == null) {
+            return true;
+        }
+
+        context.expressionEvaluated();
+
+        return Boolean.TRUE.equals(expression.getValue(EVALUATION_CONTEXT, new AuthorityExpressionRoot(owner, context), Boolean.class));
+    }
+
+    private boolean isAnyGranted(RedactionContext context) {
+        for (int anyOfId : anyOfIds) {
+            if (context.isGranted(anyOfId)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Determines if every user may access the field.
+     */
+    public boolean isUnconditional() {
+        return simple && authorityId == AuthorityRegistry.NO_AUTHORITY;
+    }
+
+    /**
+     * Compiles the expression of this rule now, rather than once SpEL finds it warm.
+     *
+     * @return {@code true} if the expression is compiled, which requires every part of it to have been evaluated
+     */
+    boolean compileExpression() {
+        return expression instanceof SpelExpression spelExpression && spelExpression.compileExpression();
+    }
+
+    /**
+     * Determines if the decision depends on more than the current user's authorities, e.g. on the object itself.
+     */
+    public boolean isDynamic() {
+        return expression != null;
+    }
+
+    /**
+     * The single authority this rule requires, or its first authority for composite rules, for reporting.
+     */
+    public int getAuthorityId() {
+        if (authorityId != AuthorityRegistry.NO_AUTHORITY) {
+            return authorityId;
+        }
+
+        if (allOfIds.length > 0) {
+            return allOfIds[0];
+        }
+
+        return anyOfIds.length > 0 ? anyOfIds[0] : AuthorityRegistry.NO_AUTHORITY;
+    }
+
+    /**
+     * Adds every authority whose denial can change the decision of this rule.
+     */
+    void collectAuthorityIds(BitSet authorityIds) {
+        if (authorityId != AuthorityRegistry.NO_AUTHORITY) {
+            authorityIds.set(authorityId);
+        }
+
+        for (int allOfId : allOfIds) {
+            authorityIds.set(allOfId);
+        }
+
+        for (int anyOfId : anyOfIds) {
+            authorityIds.set(anyOfId);
+        }
+    }
+
+    @Override
+    public String toString() {
+        var description = new StringJoiner(" and ");
+        if (authorityId != AuthorityRegistry.NO_AUTHORITY) {
+            description.add(AuthorityRegistry.authorityOf(authorityId));
+        }
+
+        for (int allOfId : allOfIds) {
+            description.add(AuthorityRegistry.authorityOf(allOfId));
+        }
+
+        if (anyOfIds.length > 0) {
+            description.add(String.join(" or ", Arrays.stream(anyOfIds).mapToObj(AuthorityRegistry::authorityOf).toList()));
+        }
+
+        if (expression != null) {
+            description.add(expression.getExpressionString());
+        }
+
+        return description.toString();
+    }
+}
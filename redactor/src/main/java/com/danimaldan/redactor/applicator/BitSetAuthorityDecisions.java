@@ -0,0 +1,62 @@
+package com.danimaldan.redactor.applicator;
+
+import java.util.Arrays;
+
+/**
+ * Memoizes authority decisions in two bit masks indexed by authority id: one marking which authorities have been
+ * resolved, and one marking which of those are granted. Not thread-safe, each redaction pass gets its own instance.
+ */
+class BitSetAuthorityDecisions implements AuthorityDecisions {
+    private final HasAuthorityPredicate hasAuthorityPredicate;
+
+    private long[] resolved;
+    private long[] granted;
+
+    BitSetAuthorityDecisions(HasAuthorityPredicate hasAuthorityPredicate) {
+        this.hasAuthorityPredicate = hasAuthorityPredicate;
+
+        var words = wordIndex(AuthorityRegistry.size()) + 1;
+        this.resolved = new long[words];
+        this.granted = new long[words];
+    }
+
+    @Override
+    public boolean isGranted(int authorityId) {
+        var wordIndex = wordIndex(authorityId);
+        var bit = 1L << authorityId;
+
+        if (wordIndex >= resolved.length) {
+            // authority was interned after this pass started
+            resolved = Arrays.copyOf(resolved, wordIndex + 1);
+            granted = Arrays.copyOf(granted, wordIndex + 1);
+        } else if ((resolved[wordIndex] & bit) != 0) {
+            return (granted[wordIndex] & bit) != 0;
+        }
+
+        var isGranted = hasAuthorityPredicate.hasAuthority(AuthorityRegistry.authorityOf(authorityId));
+
+        resolved[wordIndex] |= bit;
+        if (isGranted) {
+            granted[wordIndex] |= bit;
+        }
+
+        return isGranted;
+    }
+
+    /**
+     * Resolves every authority interned so far, so the result can be shared read-only between threads.
+     */
+    @Override
+    public AuthorityDecisions shareable() {
+        var resolvedCount = AuthorityRegistry.size();
+        for (var authorityId = 0; authorityId < resolvedCount; authorityId++) {
+            isGranted(authorityId);
+        }
+
+        return new ResolvedAuthorityDecisions(hasAuthorityPredicate, resolvedCount, granted.clone());
+    }
+
+    private static int wordIndex(int authorityId) {
+        return authorityId >> 6;
+    }
+}
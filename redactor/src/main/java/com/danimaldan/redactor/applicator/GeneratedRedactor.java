@@ -0,0 +1,20 @@
+package com.danimaldan.redactor.applicator;
+
+/**
+ * Redactor generated at build time by {@code redactor-processor} for a class having {@link com.danimaldan.redactor.RedactAuthorize}
+ * fields. Generated redactors call getters directly, so no reflection is needed when one is available for a class.
+ * <p>
+ * Generated redactors are named after the class they redact, e.g. {@code UserRedactor} for {@code User}, and live in the
+ * same package. Nested classes use {@code _} in place of {@code $}, e.g. {@code Outer_InnerRedactor}.
+ */
+public interface GeneratedRedactor<T> {
+    void redact(T object, RedactionContext context);
+
+    /**
+     * Number of {@code @RedactAuthorize} fields this redactor decides, reported to {@link RedactionMetrics} for every
+     * redacted object without looking up the class's {@link RedactionPlan}.
+     */
+    default int getFieldCount() {
+        return 0;
+    }
+}
@@ -0,0 +1,63 @@
+package com.danimaldan.redactor.applicator;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+
+import java.util.Optional;
+
+/**
+ * Locates {@link GeneratedRedactor} implementations on the classpath. Lookups are cached per class, so a missing
+ * generated redactor only costs one failed class load.
+ */
+@Slf4j
+@UtilityClass
+class GeneratedRedactors {
+    static final String GENERATED_REDACTOR_SUFFIX = "Redactor";
+
+    private static final ClassValue<Optional<GeneratedRedactor<Object>>> GENERATED_REDACTORS = new ClassValue<>() {
+        @Override
+        protected Optional<GeneratedRedactor<Object>> computeValue(Class<?> type) {
+            return load(type);
+        }
+    };
+
+    /**
+     * Returns the generated redactor for the given class, if one has been generated.
+     */
+    Optional<GeneratedRedactor<Object>> forClass(Class<?> type) {
+        return GENERATED_REDACTORS.get(type);
+    }
+
+    String generatedRedactorName(Class<?> type) {
+        return type.getName().replace('$', '_') + GENERATED_REDACTOR_SUFFIX;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<GeneratedRedactor<Object>> load(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.getName().startsWith("java.")) {
+            return Optional.empty();
+        }
+
+        var generatedRedactorName = generatedRedactorName(type);
+        if (!ClassUtils.isPresent(generatedRedactorName, type.getClassLoader())) {
+            return Optional.empty();
+        }
+
+        try {
+            var generatedRedactorClass = ClassUtils.forName(generatedRedactorName, type.getClassLoader());
+            if (!GeneratedRedactor.class.isAssignableFrom(generatedRedactorClass)) {
+                return Optional.empty();
+            }
+
+            log.debug("Using generated redactor {} for {}", generatedRedactorName, type.getName());
+
+            return Optional.of((GeneratedRedactor<Object>) BeanUtils.instantiateClass(generatedRedactorClass));
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.warn("Could not load generated redactor {}, falling back to reflection. Details: {}", generatedRedactorName, e.getMessage());
+
+            return Optional.empty();
+        }
+    }
+}
@@ -6,4 +6,20 @@ public interface HasAuthorityPredicate {
      * Determines if the user has access to the authority.
      */
     boolean hasAuthority(String authority);
+
+    /**
+     * Captures the current user's authorities so they can be checked repeatedly, and from other threads, during a
+     * single redaction pass. Predicates that look up the current user on every call should override this.
+     */
+    default HasAuthorityPredicate snapshot() {
+        return this;
+    }
+
+    /**
+     * The current user's principal, for {@link com.danimaldan.redactor.RedactAuthorize#expression()}s, or {@code null}
+     * if unknown.
+     */
+    default Object getPrincipal() {
+        return null;
+    }
 }
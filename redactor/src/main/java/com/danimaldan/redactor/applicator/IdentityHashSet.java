@@ -0,0 +1,73 @@
+package com.danimaldan.redactor.applicator;
+
+/**
+ * Set of objects compared by identity. Entries live in a single open-addressing array with linear probing, so adding an
+ * object never allocates, unlike {@link java.util.IdentityHashMap} based sets.
+ */
+final class IdentityHashSet {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Object[] table;
+    private int size;
+
+    /**
+     * Adds an object to the set.
+     *
+     * @return {@code true} if the object was not already in the set
+     */
+    boolean add(Object object) {
+        if (table == null) {
+            table = new Object[INITIAL_CAPACITY];
+        }
+
+        if (!insert(table, object)) {
+            return false;
+        }
+
+        // keep the table at most half full, so probe sequences stay short
+        if (++size * 2 > table.length) {
+            resize();
+        }
+
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        var resized = new Object[table.length * 2];
+        for (Object entry : table) {
+            if (entry != null) {
+                insert(resized, entry);
+            }
+        }
+
+        table = resized;
+    }
+
+    private static boolean insert(Object[] table, Object object) {
+        var mask = table.length - 1;
+        var index = hash(object) & mask;
+
+        Object entry;
+        while ((entry = table[index]) != null) {
+            if (entry == object) {
+                return false;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        table[index] = object;
+
+        return true;
+    }
+
+    private static int hash(Object object) {
+        var hash = System.identityHashCode(object);
+
+        return hash ^ (hash >>> 16);
+    }
+}
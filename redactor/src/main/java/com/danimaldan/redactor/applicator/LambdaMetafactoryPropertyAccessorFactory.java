@@ -0,0 +1,49 @@
+package com.danimaldan.redactor.applicator;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * Spins a {@link PropertyAccessor} for each getter through {@link LambdaMetafactory}, which the JIT can inline like a
+ * regular method call. Getters that cannot be bound, e.g. because their class is not accessible from this module, are handed
+ * to the fallback factory.
+ */
+@Slf4j
+class LambdaMetafactoryPropertyAccessorFactory implements PropertyAccessorFactory {
+    private static final MethodType ACCESSOR_FACTORY_TYPE = MethodType.methodType(PropertyAccessor.class);
+    private static final MethodType ACCESSOR_GET_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final PropertyAccessorFactory fallback;
+
+    LambdaMetafactoryPropertyAccessorFactory(PropertyAccessorFactory fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public PropertyAccessor create(Method readMethod) {
+        try {
+            var declaringClass = readMethod.getDeclaringClass();
+            var lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            var methodHandle = lookup.unreflect(readMethod);
+
+            var callSite = LambdaMetafactory.metafactory(
+                    lookup,
+                    "get",
+                    ACCESSOR_FACTORY_TYPE,
+                    ACCESSOR_GET_TYPE,
+                    methodHandle,
+                    MethodType.methodType(readMethod.getReturnType(), declaringClass)
+            );
+
+            return (PropertyAccessor) callSite.getTarget().invokeExact();
+        } catch (Throwable e) {
+            log.debug("Could not generate lambda accessor for '{}', falling back. Details: {}", readMethod.toGenericString(), e.getMessage());
+
+            return fallback.create(readMethod);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.danimaldan.redactor.applicator;
+
+/**
+ * Tells lazily loaded values, e.g. uninitialized JPA proxies and collections, apart from loaded ones without loading
+ * them. Redaction never reads from a value that is not loaded, so it never triggers the load.
+ * <p>
+ * A value that is not loaded is only left as it is if nothing within it could be redacted for the current user, since
+ * whatever loads it later, e.g. serialization with an open session, would expose it unredacted. Otherwise redaction
+ * fails closed: a {@link com.danimaldan.redactor.Redactable} holding it is redacted as a whole, and any other value is
+ * rejected with an {@link IllegalStateException}.
+ *
+ * @see com.danimaldan.redactor.jpa.PersistenceLoadStatePredicate
+ */
+@FunctionalInterface
+public interface LoadStatePredicate {
+    LoadStatePredicate ALWAYS_LOADED = new LoadStatePredicate() {
+        @Override
+        public boolean isLoaded(Object value) {
+            return true;
+        }
+
+        @Override
+        public boolean mayHoldUnloaded(Class<?> type) {
+            return false;
+        }
+    };
+
+    /**
+     * Determines if the given object, collection or map can be read without loading it first.
+     */
+    boolean isLoaded(Object value);
+
+    /**
+     * Determines if the given attribute of an object can be read through its getter without loading it first, e.g. a
+     * lazy attribute of a bytecode enhanced entity. Only asked for classes that {@link #mayHoldUnloaded(Class) may hold
+     * unloaded state}.
+     */
+    default boolean isLoaded(Object owner, String attribute) {
+        return true;
+    }
+
+    /**
+     * Determines if instances of the given class may hold attributes or associations that are not loaded, so their
+     * fields are checked before they are read. Classes that may not are redacted without these checks, e.g. by their
+     * {@link GeneratedRedactor}.
+     */
+    default boolean mayHoldUnloaded(Class<?> type) {
+        return true;
+    }
+
+    /**
+     * Returns the object a loaded proxy delegates to, e.g. the entity behind an initialized Hibernate proxy, whose fields
+     * hold the state the proxy's own fields do not. Any other value is returned as it is.
+     */
+    default Object unwrap(Object value) {
+        return value;
+    }
+}
@@ -0,0 +1,41 @@
+package com.danimaldan.redactor.applicator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * Binds getters to a {@link MethodHandle} adapted to {@code (Object)Object}.
+ */
+@Slf4j
+class MethodHandlePropertyAccessorFactory implements PropertyAccessorFactory {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    @Override
+    public PropertyAccessor create(Method readMethod) {
+        ReflectionUtils.makeAccessible(readMethod);
+
+        MethodHandle methodHandle;
+        try {
+            methodHandle = MethodHandles.lookup()
+                    .unreflect(readMethod)
+                    .asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Could not create method handle for getter '" + readMethod.toGenericString() + "'. Details: " + e.getMessage(), e);
+        }
+
+        return object -> {
+            try {
+                return methodHandle.invokeExact(object);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Getter '" + readMethod.toGenericString() + "' failed. Details: " + e.getMessage(), e);
+            }
+        };
+    }
+}
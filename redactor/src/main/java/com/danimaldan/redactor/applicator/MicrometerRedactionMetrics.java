@@ -0,0 +1,113 @@
+package com.danimaldan.redactor.applicator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes redaction measurements to a Micrometer {@link MeterRegistry}. Tags are limited to the advised method and
+ * the authority of a redacted field, both fixed by the application's annotations, so cardinality stays low.
+ */
+@Slf4j
+public class MicrometerRedactionMetrics implements RedactionMetrics {
+    private final MeterRegistry meterRegistry;
+    private final Counter objectsVisited;
+    private final Counter fieldsVisited;
+    private final Counter authorityChecks;
+    private final DistributionSummary containerSizes;
+    private final Counter planHits;
+    private final Counter planMisses;
+    private final Counter viewHits;
+    private final Counter viewMisses;
+    private final Map<Integer, Counter> fieldsRedacted = new ConcurrentHashMap<>();
+    private final Map<Method, Timer> methodTimers = new ConcurrentHashMap<>();
+
+    public MicrometerRedactionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.objectsVisited = Counter.builder("redactor.objects.visited")
+                .description("Objects visited while redacting")
+                .register(meterRegistry);
+        this.fieldsVisited = Counter.builder("redactor.fields.visited")
+                .description("@RedactAuthorize fields read while redacting")
+                .register(meterRegistry);
+        this.authorityChecks = Counter.builder("redactor.authority.checks")
+                .description("Authority checks that reached the HasAuthorityPredicate")
+                .register(meterRegistry);
+        this.containerSizes = DistributionSummary.builder("redactor.container.size")
+                .description("Number of elements of redacted collections, maps and arrays")
+                .register(meterRegistry);
+
+        this.planHits = Counter.builder("redactor.plan.cache")
+                .description("Lookups of precompiled redaction plans")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.planMisses = Counter.builder("redactor.plan.cache")
+                .description("Lookups of precompiled redaction plans")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.viewHits = Counter.builder("redactor.view.cache")
+                .description("Lookups of redacted views")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.viewMisses = Counter.builder("redactor.view.cache")
+                .description("Lookups of redacted views")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public HasAuthorityPredicate instrument(HasAuthorityPredicate hasAuthorityPredicate) {
+        return authority -> {
+            authorityChecks.increment();
+
+            return hasAuthorityPredicate.hasAuthority(authority);
+        };
+    }
+
+    @Override
+    public void traversed(int objects, int fields) {
+        objectsVisited.increment(objects);
+        fieldsVisited.increment(fields);
+    }
+
+    @Override
+    public void planLookedUp(Class<?> type, boolean firstUse) {
+        (firstUse ? planMisses : planHits).increment();
+    }
+
+    @Override
+    public void viewCacheLookedUp(boolean hit) {
+        (hit ? viewHits : viewMisses).increment();
+    }
+
+    @Override
+    public void fieldRedacted(int authorityId) {
+        fieldsRedacted.computeIfAbsent(authorityId, id -> Counter.builder("redactor.fields.redacted")
+                        .description("Fields redacted because their authority was denied")
+                        .tag("authority", id == AuthorityRegistry.NO_AUTHORITY ? "" : AuthorityRegistry.authorityOf(id))
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    @Override
+    public void containerVisited(int size) {
+        containerSizes.record(size);
+    }
+
+    @Override
+    public void methodRedacted(Method method, long durationNanos) {
+        methodTimers.computeIfAbsent(method, m -> Timer.builder("redactor.redaction")
+                        .description("Time spent redacting the return value of @Redact methods")
+                        .tag("class", m.getDeclaringClass().getSimpleName())
+                        .tag("method", m.getName())
+                        .register(meterRegistry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+}
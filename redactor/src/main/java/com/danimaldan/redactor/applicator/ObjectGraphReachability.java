@@ -0,0 +1,187 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.Redactable;
+import lombok.experimental.UtilityClass;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Determines if a value may strongly reference an object of a given class through any field, not only through
+ * {@link com.danimaldan.redactor.RedactAuthorize} fields, without walking the value itself.
+ * <p>
+ * The answer is judged by the declared types of the fields below the value's own class, resolved once per class, so
+ * it errs towards {@code true}: fields declared as {@code Object}, an interface or an abstract class may reference
+ * anything. Other JDK types are never looked into.
+ */
+@UtilityClass
+class ObjectGraphReachability {
+    private static final ClassValue<Reach> REACHES = new ClassValue<>() {
+        @Override
+        protected Reach computeValue(Class<?> type) {
+            return compute(type);
+        }
+    };
+
+    /**
+     * Determines if the given value may reference an object of the target class.
+     *
+     * @param declaredType the declared type of the field holding the value, used for the elements of containers, or
+     *                     {@code null} if unknown
+     */
+    boolean mayReach(@Nullable Object value, @Nullable ResolvableType declaredType, Class<?> target) {
+        if (value == null) {
+            return false;
+        }
+
+        if (value instanceof Redactable<?> redactable) {
+            return mayReach(redactable.getValue(), declaredType == null ? null : declaredType.as(Redactable.class).getGeneric(0), target);
+        }
+
+        return switch (RedactionValueKind.of(value.getClass())) {
+            case OBJECT -> REACHES.get(value.getClass()).mayReach(target);
+            case LEAF -> false;
+            // the runtime class of a container does not tell what it holds
+            default -> declaredType == null || mayHoldElements(declaredType, target);
+        };
+    }
+
+    private boolean mayHoldElements(ResolvableType containerType, Class<?> target) {
+        var resolved = containerType.resolve();
+        if (resolved == null) {
+            return true;
+        }
+
+        if (resolved.isArray()) {
+            return mayHold(containerType.getComponentType(), target);
+        }
+
+        return switch (RedactionValueKind.of(resolved)) {
+            case COLLECTION -> mayHold(containerType.asCollection().getGeneric(0), target);
+            case MAP -> mayHold(containerType.asMap().getGeneric(0), target) || mayHold(containerType.asMap().getGeneric(1), target);
+            case OPTIONAL -> mayHold(containerType.getGeneric(0), target);
+            default -> true;
+        };
+    }
+
+    /**
+     * Determines if a value declared with the given type may be, or may reference, an object of the target class.
+     */
+    private boolean mayHold(ResolvableType type, Class<?> target) {
+        var resolved = type.resolve();
+        if (resolved == null) {
+            return true;
+        }
+
+        if (resolved.isPrimitive()) {
+            return false;
+        }
+
+        if (Redactable.class.isAssignableFrom(resolved)) {
+            return mayHold(type.as(Redactable.class).getGeneric(0), target);
+        }
+
+        return switch (RedactionValueKind.of(resolved)) {
+            case OBJECT -> resolved.isAssignableFrom(target) || isOpen(resolved) || REACHES.get(resolved).mayReach(target);
+            case LEAF -> isOpen(resolved);
+            default -> mayHoldElements(type, target);
+        };
+    }
+
+    private boolean isOpen(Class<?> type) {
+        return type == Object.class || type.isInterface() || Modifier.isAbstract(type.getModifiers());
+    }
+
+    /**
+     * Collects the classes the fields reachable from the given class are declared with.
+     */
+    private Reach compute(Class<?> root) {
+        Set<Class<?>> types = new HashSet<>();
+        Set<Class<?>> visited = new HashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.push(root);
+
+        while (!pending.isEmpty()) {
+            var type = pending.pop();
+            if (!visited.add(type)) {
+                continue;
+            }
+
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !collect(ResolvableType.forField(field, type), types, pending)) {
+                        return Reach.OPEN;
+                    }
+                }
+            }
+        }
+
+        return new Reach(types.toArray(Class<?>[]::new));
+    }
+
+    /**
+     * @return {@code false} if a value of the given type may reference anything
+     */
+    private boolean collect(ResolvableType type, Set<Class<?>> types, Deque<Class<?>> pending) {
+        var resolved = type.resolve();
+        if (resolved == null) {
+            return false;
+        }
+
+        if (resolved.isPrimitive()) {
+            return true;
+        }
+
+        if (Redactable.class.isAssignableFrom(resolved)) {
+            return collect(type.as(Redactable.class).getGeneric(0), types, pending);
+        }
+
+        if (resolved.isArray()) {
+            return collect(type.getComponentType(), types, pending);
+        }
+
+        return switch (RedactionValueKind.of(resolved)) {
+            case COLLECTION -> collect(type.asCollection().getGeneric(0), types, pending);
+            case MAP -> collect(type.asMap().getGeneric(0), types, pending) && collect(type.asMap().getGeneric(1), types, pending);
+            case OPTIONAL -> collect(type.getGeneric(0), types, pending);
+            case LEAF -> !isOpen(resolved);
+            case OBJECT -> {
+                if (isOpen(resolved)) {
+                    yield false;
+                }
+
+                types.add(resolved);
+                pending.push(resolved);
+                yield true;
+            }
+            case ARRAY -> false;
+        };
+    }
+
+    /**
+     * The classes of the fields reachable from a class, or {@code null} if they may reference anything.
+     */
+    private record Reach(Class<?>[] types) {
+        private static final Reach OPEN = new Reach(null);
+
+        boolean mayReach(Class<?> target) {
+            if (types == null) {
+                return true;
+            }
+
+            for (Class<?> type : types) {
+                if (type.isAssignableFrom(target)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+}
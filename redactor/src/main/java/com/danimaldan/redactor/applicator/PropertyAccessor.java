@@ -0,0 +1,13 @@
+package com.danimaldan.redactor.applicator;
+
+/**
+ * Reads a single property from an object. Accessors are resolved once per field when a {@link RedactionPlan} is
+ * compiled, so implementations should do no lookups of their own.
+ * <p>
+ * Public only so {@link LambdaMetafactoryPropertyAccessorFactory} can implement it from within the class declaring
+ * the getter.
+ */
+@FunctionalInterface
+public interface PropertyAccessor {
+    Object get(Object object);
+}
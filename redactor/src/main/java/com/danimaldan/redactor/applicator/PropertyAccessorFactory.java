@@ -0,0 +1,19 @@
+package com.danimaldan.redactor.applicator;
+
+import java.lang.reflect.Method;
+
+/**
+ * Creates a {@link PropertyAccessor} for a resolved getter.
+ */
+@FunctionalInterface
+interface PropertyAccessorFactory {
+    PropertyAccessor create(Method readMethod);
+
+    /**
+     * Generates a {@code LambdaMetafactory} accessor, falling back to a {@code MethodHandle} accessor when the getter
+     * cannot be bound to a lambda.
+     */
+    static PropertyAccessorFactory defaultFactory() {
+        return new LambdaMetafactoryPropertyAccessorFactory(new MethodHandlePropertyAccessorFactory());
+    }
+}
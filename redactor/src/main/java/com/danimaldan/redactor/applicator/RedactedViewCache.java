@@ -0,0 +1,153 @@
+package com.danimaldan.redactor.applicator;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Memoizes redacted copies per source object and per {@link AuthorityFingerprint}, so callers sharing the same
+ * authorities get the same view of a hot object instead of redacting it from scratch. Views are shared between
+ * callers and must not be modified.
+ * <p>
+ * Source objects are held weakly and compared by identity. Views share unredacted subtrees with their source, so a view
+ * reaching its source again, e.g. through the back-reference of a shared child to its parent, would pin the source for
+ * as long as it is cached. Whether a view may do so is recorded while copying, judged by the declared types of the
+ * fields below each shared value, and such views are never cached, which is remembered per source object. Cycles
+ * through {@code @RedactAuthorize} fields are copied along with the source instead, and cached as usual.
+ * <p>
+ * Hits and misses are reported to the {@link RedactionMetrics} of the redacting context.
+ * <p>
+ * The number of source objects is bounded with Caffeine's W-TinyLFU eviction, and each keeps only its most recently
+ * used views. When source objects are mutable, give a version key, e.g. an entity's {@code @Version}, so changed
+ * objects are redacted again.
+ */
+@Slf4j
+public class RedactedViewCache {
+    private static final int MAX_VIEWS_PER_OBJECT = 16;
+
+    /**
+     * Stands in for views equal to their source, so cached values do not strongly reference their own weak key.
+     */
+    private static final Object SOURCE = new Object();
+
+    /**
+     * Stands in for views that reach their source, so the next caller copies without checking again.
+     */
+    private static final Object UNCACHEABLE = new Object();
+
+    private final Cache<Object, Views> cache;
+    private final Function<Object, ?> versionKey;
+
+    public RedactedViewCache(long maximumSize) {
+        this(maximumSize, source -> null);
+    }
+
+    /**
+     * @param versionKey extracts a key that changes whenever a source object is modified
+     */
+    public RedactedViewCache(long maximumSize, Function<Object, ?> versionKey) {
+        this.cache = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(maximumSize)
+                .build();
+        this.versionKey = versionKey;
+    }
+
+    /**
+     * Returns the redacted view of the given object for the user of the given context, creating it with
+     * {@link RedactionApplicatorFactory#copy(Object, RedactionContext)} on a miss.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(@Nullable T source, RedactionContext context) {
+        if (source == null) {
+            return null;
+        }
+
+        var metrics = context.getOptions().getMetrics();
+        var version = versionKey.apply(source);
+        var views = cache.get(source, key -> new Views());
+
+        var view = views.get(version, AuthorityFingerprint.of(source, context));
+        if (view == UNCACHEABLE) {
+            metrics.viewCacheLookedUp(false);
+
+            return RedactionApplicatorFactory.copy(source, context);
+        }
+
+        if (view != null) {
+            metrics.viewCacheLookedUp(true);
+
+            return view == SOURCE ? source : (T) view;
+        }
+
+        metrics.viewCacheLookedUp(false);
+        context.resetExpressionEvaluated();
+        var copier = new RedactionCopy(context, true);
+        var copy = (T) copier.copy(source);
+
+        if (context.isExpressionEvaluated()) {
+            // the view depends on more than the user's authorities, so it cannot be shared by fingerprint
+            return copy;
+        }
+
+        // fingerprint again, since redacting may have interned authorities of classes seen for the first time
+        var fingerprint = AuthorityFingerprint.of(source, context);
+
+        if (copy == source) {
+            views.put(version, fingerprint, SOURCE);
+        } else if (copier.sharesRoot()) {
+            // the cached view would keep its own weak key alive
+            views.put(version, fingerprint, UNCACHEABLE);
+        } else {
+            views.put(version, fingerprint, copy);
+        }
+
+        return copy;
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    public void invalidate(Object source) {
+        cache.invalidate(source);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * The views of a single source object, for a single version of it.
+     */
+    private static final class Views {
+        private Object version;
+
+        private final Map<AuthorityFingerprint, Object> views = new LinkedHashMap<>(4, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<AuthorityFingerprint, Object> eldest) {
+                return size() > MAX_VIEWS_PER_OBJECT;
+            }
+        };
+
+        synchronized Object get(Object version, AuthorityFingerprint fingerprint) {
+            return Objects.equals(this.version, version) ? views.get(fingerprint) : null;
+        }
+
+        synchronized void put(Object version, AuthorityFingerprint fingerprint, Object view) {
+            if (!Objects.equals(this.version, version)) {
+                // the source object changed, so every view of the prior version is stale
+                this.version = version;
+                views.clear();
+            }
+
+            views.put(fingerprint, view);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.danimaldan.redactor.applicator;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Redacts each element of the wrapped iterator as it is consumed.
+ */
+class RedactingIterator<T> implements Iterator<T> {
+    private final Iterator<T> iterator;
+    private final RedactionContext context;
+
+    RedactingIterator(Iterator<T> iterator, RedactionContext context) {
+        this.iterator = iterator;
+        this.context = context;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public T next() {
+        return redact(iterator.next());
+    }
+
+    @Override
+    public void remove() {
+        iterator.remove();
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        iterator.forEachRemaining(element -> action.accept(redact(element)));
+    }
+
+    private T redact(T element) {
+        return RedactionApplicatorFactory.redact(element, context);
+    }
+}
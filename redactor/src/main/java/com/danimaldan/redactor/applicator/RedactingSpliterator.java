@@ -0,0 +1,74 @@
+package com.danimaldan.redactor.applicator;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Redacts each element of the wrapped spliterator as it is consumed. Elements are redacted in place, or replaced by
+ * their redacted copies, so the order and characteristics of the wrapped spliterator are preserved.
+ */
+class RedactingSpliterator<T> implements Spliterator<T> {
+    private final Spliterator<T> spliterator;
+    private RedactionContext context;
+    private boolean split;
+
+    RedactingSpliterator(Spliterator<T> spliterator, RedactionContext context) {
+        this.spliterator = spliterator;
+        this.context = context;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        return spliterator.tryAdvance(element -> action.accept(redact(element)));
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        spliterator.forEachRemaining(element -> action.accept(redact(element)));
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        var prefix = spliterator.trySplit();
+        if (prefix == null) {
+            return null;
+        }
+
+        if (!split) {
+            // parts of a parallel stream are consumed concurrently, so share read-only authority decisions
+            context = context.forWorkers();
+            split = true;
+        }
+
+        // parts are consumed concurrently, so each needs its own context
+        var redactingPrefix = new RedactingSpliterator<>(prefix, context.forWorkers());
+        redactingPrefix.split = true;
+
+        return redactingPrefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return spliterator.estimateSize();
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return spliterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public int characteristics() {
+        return spliterator.characteristics();
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+        return spliterator.getComparator();
+    }
+
+    private T redact(T element) {
+        return RedactionApplicatorFactory.redact(element, context);
+    }
+}
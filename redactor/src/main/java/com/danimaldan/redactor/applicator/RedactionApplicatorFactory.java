@@ -1,8 +1,16 @@
 package com.danimaldan.redactor.applicator;
 
 import lombok.experimental.UtilityClass;
+import org.springframework.core.ResolvableType;
 
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @UtilityClass
 public class RedactionApplicatorFactory {
@@ -13,14 +21,105 @@ public class RedactionApplicatorFactory {
     }
 
     public RedactionApplicator create(Object object, HasAuthorityPredicate hasAuthorityPredicate) {
+        return create(object, hasAuthorityPredicate, RedactionOptions.DEFAULT);
+    }
+
+    /**
+     * Creates an applicator whose authority checks go through {@link AuthorityDecisions} created by the given factory,
+     * e.g. to share decisions between passes or to disable memoization.
+     */
+    public RedactionApplicator create(Object object, HasAuthorityPredicate hasAuthorityPredicate, AuthorityDecisionsFactory authorityDecisionsFactory) {
+        return create(object, hasAuthorityPredicate, RedactionOptions.DEFAULT.withAuthorityDecisionsFactory(authorityDecisionsFactory));
+    }
+
+    public RedactionApplicator create(Object object, HasAuthorityPredicate hasAuthorityPredicate, RedactionOptions options) {
+        return create(object, new RedactionContext(hasAuthorityPredicate, options));
+    }
+
+    public RedactionApplicator create(Object object, RedactionContext context) {
         if (object == null) {
             return new RedactionNullApplicator();
         }
 
-        if (Collection.class.isAssignableFrom(object.getClass())) {
-            return new RedactionCollectionApplicator<>((Collection<?>) object, hasAuthorityPredicate);
+        return switch (RedactionValueKind.of(object.getClass())) {
+            case LEAF -> new RedactionNullApplicator();
+            case COLLECTION -> new RedactionCollectionApplicator<>((Collection<?>) object, context);
+            case MAP -> new RedactionMapApplicator((Map<?, ?>) object, context);
+            case ARRAY -> new RedactionArrayApplicator((Object[]) object, context);
+            case OPTIONAL -> new RedactionOptionalApplicator((Optional<?>) object, context);
+            case OBJECT -> new RedactionObjectApplicator(object, context);
+        };
+    }
+
+    /**
+     * Redacts a value as configured by the context: in place, returning the value itself, or as a copy when
+     * {@link RedactionOptions#isCopyOnRedact()} is set. Copies come from the {@link RedactionOptions#getViewCache()}
+     * when one is given.
+     */
+    public <T> T redact(T object, RedactionContext context) {
+        var options = context.getOptions();
+        if (options.isCopyOnRedact()) {
+            return options.getViewCache() != null ? options.getViewCache().get(object, context) : copy(object, context);
         }
 
-        return new RedactionObjectApplicator(object, hasAuthorityPredicate);
+        create(object, context).redact();
+
+        return object;
+    }
+
+    /**
+     * Returns a redacted copy of the given value without mutating it. Only objects on a path to a redacted field are
+     * copied, everything else is shared with the original, so the value itself is returned when nothing is redacted.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T copy(T object, RedactionContext context) {
+        return (T) new RedactionCopy(context).copy(object);
+    }
+
+    /**
+     * Checks an incoming value, e.g. the body of an update request, for changes to fields whose
+     * {@code updateAuthority} the current user is denied, and discards or rejects them as the mode says.
+     *
+     * @throws RedactionUpdateDeniedException if such a field is changed and the mode is {@link RedactionUpdateMode#REJECT}
+     */
+    public void enforceUpdate(Object object, RedactionContext context, RedactionUpdateMode mode) {
+        new RedactionUpdate(context, mode).enforce(object);
+    }
+
+    /**
+     * Compiles the redaction plans of every class reachable from the given type, e.g. the return type of a
+     * {@code @Redact} method, so the first redaction of those classes does no reflection.
+     *
+     * @return the classes whose plans were compiled
+     * @throws IllegalStateException if a reachable {@code @RedactAuthorize} field could not be redacted when its
+     *                               authority is denied, or has no public getter
+     */
+    public Set<Class<?>> precompile(ResolvableType type) {
+        return new RedactionPrecompiler().precompile(type);
+    }
+
+    /**
+     * Wraps a stream so each element is redacted lazily as it is consumed, instead of collecting the stream first.
+     * Closing the returned stream closes the given stream.
+     */
+    public <T> Stream<T> wrap(Stream<T> stream, RedactionContext context) {
+        var parallel = stream.isParallel();
+
+        return StreamSupport.stream(wrap(stream.spliterator(), context), parallel)
+                .onClose(stream::close);
+    }
+
+    /**
+     * Wraps an iterator so each element is redacted lazily as it is consumed.
+     */
+    public <T> Iterator<T> wrap(Iterator<T> iterator, RedactionContext context) {
+        return new RedactingIterator<>(iterator, context);
+    }
+
+    /**
+     * Wraps a spliterator so each element is redacted lazily as it is consumed, preserving its characteristics.
+     */
+    public <T> Spliterator<T> wrap(Spliterator<T> spliterator, RedactionContext context) {
+        return new RedactingSpliterator<>(spliterator, context);
     }
 }
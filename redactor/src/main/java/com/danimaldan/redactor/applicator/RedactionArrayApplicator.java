@@ -0,0 +1,23 @@
+package com.danimaldan.redactor.applicator;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+class RedactionArrayApplicator implements RedactionApplicator {
+    private final Object[] array;
+    private final RedactionContext context;
+
+    public RedactionArrayApplicator(Object[] array, RedactionContext context) {
+        this.array = array;
+        this.context = context;
+    }
+
+    @Override
+    public void redact() {
+        if (array.length == 0) {
+            return;
+        }
+
+        context.traverse(array);
+    }
+}
@@ -0,0 +1,46 @@
+package com.danimaldan.redactor.applicator;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Redacts the values of one level of a {@link RedactionTraversal}, splitting them in half until each part is at most
+ * {@code batchSize} values. Each batch only applies the field decisions of its own values; their nested values are
+ * handed back to the traversal, which visits them once in its next level.
+ */
+@Slf4j
+class RedactionCollectionTask extends RecursiveAction {
+    private final Spliterator<?> spliterator;
+    private final RedactionTraversal traversal;
+    private final RedactionContext context;
+    private final int batchSize;
+
+    RedactionCollectionTask(Spliterator<?> spliterator, RedactionTraversal traversal, RedactionContext context, int batchSize) {
+        this.spliterator = spliterator;
+        this.traversal = traversal;
+        this.context = context;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    protected void compute() {
+        if (spliterator.estimateSize() > batchSize) {
+            var prefix = spliterator.trySplit();
+            if (prefix != null) {
+                invokeAll(new RedactionCollectionTask(prefix, traversal, context, batchSize), new RedactionCollectionTask(spliterator, traversal, context, batchSize));
+
+                return;
+            }
+        }
+
+        List<Object> batch = new ArrayList<>((int) Math.min(spliterator.estimateSize(), batchSize));
+        spliterator.forEachRemaining(batch::add);
+
+        // each batch is redacted on its own context, so workers never share mutable state
+        context.forWorkers().redactBatch(batch, traversal);
+    }
+}
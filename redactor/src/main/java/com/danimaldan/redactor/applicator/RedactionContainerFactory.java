@@ -0,0 +1,248 @@
+package com.danimaldan.redactor.applicator;
+
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Creates the empty container a {@link RedactionCopy} copies a collection or map into, resolved once per container
+ * class.
+ * <p>
+ * Copies keep the class of the source whenever it is a JDK container that can be instantiated, e.g. {@code LinkedList},
+ * {@code ArrayDeque}, {@code EnumSet} or {@code ConcurrentHashMap}, along with the comparator of sorted containers.
+ * Other containers, e.g. {@code Arrays.asList(..)}, {@code Collections.synchronizedList(..)} or a {@code subList(..)},
+ * are approximated by the modifiable JDK container closest to their interface. Only copies of the JDK's unmodifiable
+ * containers, e.g. {@code List.of(..)} or {@code Collections.unmodifiableList(..)}, are wrapped unmodifiable too.
+ */
+final class RedactionContainerFactory {
+    /**
+     * Name prefixes of the JDK's unmodifiable containers, including its empty and singleton ones.
+     */
+    private static final List<String> UNMODIFIABLE_CLASS_NAME_PREFIXES = List.of(
+            "java.util.ImmutableCollections$",
+            "java.util.Collections$Unmodifiable",
+            "java.util.Collections$Empty",
+            "java.util.Collections$Singleton"
+    );
+
+    private static final ClassValue<RedactionContainerFactory> FACTORIES = new ClassValue<>() {
+        @Override
+        protected RedactionContainerFactory computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    /**
+     * Public no-arg constructor of a JDK container, or {@code null} to approximate it.
+     */
+    private final Constructor<?> constructor;
+
+    /**
+     * Public constructor of a JDK container taking the comparator of the source, or {@code null}.
+     */
+    private final Constructor<?> comparatorConstructor;
+
+    private final boolean unmodifiable;
+
+    private RedactionContainerFactory(Constructor<?> constructor, Constructor<?> comparatorConstructor, boolean unmodifiable) {
+        this.constructor = constructor;
+        this.comparatorConstructor = comparatorConstructor;
+        this.unmodifiable = unmodifiable;
+    }
+
+    static RedactionContainerFactory forClass(Class<?> type) {
+        return FACTORIES.get(type);
+    }
+
+    /**
+     * Determines if a field declared with the given type can hold the copy of any container it holds, i.e. if the type
+     * is not a container, is an interface, or is a JDK container whose class copies keep.
+     */
+    static boolean canHoldCopies(Class<?> declaredType) {
+        if (!Collection.class.isAssignableFrom(declaredType) && !Map.class.isAssignableFrom(declaredType)) {
+            return true;
+        }
+
+        if (declaredType.isInterface() || declaredType == EnumSet.class || declaredType == EnumMap.class) {
+            return true;
+        }
+
+        var factory = forClass(declaredType);
+
+        return factory.constructor != null || factory.comparatorConstructor != null;
+    }
+
+    private static RedactionContainerFactory compile(Class<?> type) {
+        var jdkContainer = type.getClassLoader() == null;
+        var constructor = findPublicConstructor(type);
+        var comparatorConstructor = findPublicConstructor(type, Comparator.class);
+
+        var unmodifiable = jdkContainer && UNMODIFIABLE_CLASS_NAME_PREFIXES.stream().anyMatch(type.getName()::startsWith);
+
+        // only JDK containers are known to work when instantiated outside of their own library, e.g. not a Hibernate
+        // PersistentBag without its session
+        return new RedactionContainerFactory(
+                jdkContainer ? constructor : null,
+                jdkContainer ? comparatorConstructor : null,
+                unmodifiable
+        );
+    }
+
+    private static Constructor<?> findPublicConstructor(Class<?> type, Class<?>... parameterTypes) {
+        if (Modifier.isAbstract(type.getModifiers()) || !Modifier.isPublic(type.getModifiers())) {
+            return null;
+        }
+
+        try {
+            return type.getConstructor(parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates an empty, modifiable collection to copy the source into.
+     */
+    @SuppressWarnings("unchecked")
+    Collection<Object> newCollection(Collection<?> source) {
+        if (source instanceof EnumSet<?> enumSet) {
+            var copy = (Collection<Object>) (Collection<?>) EnumSet.copyOf(enumSet);
+            copy.clear();
+
+            return copy;
+        }
+
+        var comparator = comparator(source);
+        var copy = (Collection<Object>) instantiate(comparator);
+
+        return copy != null ? copy : approximateCollection(source, comparator);
+    }
+
+    /**
+     * Creates an empty, modifiable map to copy the source into.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Map<Object, Object> newMap(Map<?, ?> source) {
+        if (source instanceof EnumMap<?, ?> enumMap) {
+            Map<Object, Object> copy = new EnumMap(enumMap);
+            copy.clear();
+
+            return copy;
+        }
+
+        var comparator = source instanceof SortedMap<?, ?> sortedMap ? (Comparator<Object>) sortedMap.comparator() : null;
+        var copy = (Map<Object, Object>) instantiate(comparator);
+        if (copy != null) {
+            return copy;
+        }
+
+        return source instanceof SortedMap<?, ?> ? new TreeMap<>(comparator) : new LinkedHashMap<>(source.size() * 2);
+    }
+
+    /**
+     * Returns the collection to hand out for a copy, which is an unmodifiable view of it if the source is unmodifiable.
+     */
+    Collection<Object> seal(Collection<Object> copy) {
+        if (!unmodifiable) {
+            return copy;
+        }
+
+        if (copy instanceof NavigableSet<Object> navigableSet) {
+            return Collections.unmodifiableNavigableSet(navigableSet);
+        } else if (copy instanceof SortedSet<Object> sortedSet) {
+            return Collections.unmodifiableSortedSet(sortedSet);
+        } else if (copy instanceof Set<Object> set) {
+            return Collections.unmodifiableSet(set);
+        } else if (copy instanceof List<Object> list) {
+            return Collections.unmodifiableList(list);
+        }
+
+        return Collections.unmodifiableCollection(copy);
+    }
+
+    /**
+     * Returns the map to hand out for a copy, see {@link #seal(Collection)}.
+     */
+    Map<Object, Object> seal(Map<Object, Object> copy) {
+        if (!unmodifiable) {
+            return copy;
+        }
+
+        if (copy instanceof NavigableMap<Object, Object> navigableMap) {
+            return Collections.unmodifiableNavigableMap(navigableMap);
+        } else if (copy instanceof SortedMap<Object, Object> sortedMap) {
+            return Collections.unmodifiableSortedMap(sortedMap);
+        }
+
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private Object instantiate(Comparator<?> comparator) {
+        if (comparator != null && comparatorConstructor != null) {
+            return newInstance(comparatorConstructor, comparator);
+        }
+
+        if (comparator == null && constructor != null) {
+            return newInstance(constructor);
+        }
+
+        return null;
+    }
+
+    private static Object newInstance(Constructor<?> constructor, Object... args) {
+        try {
+            return constructor.newInstance(args);
+        } catch (ReflectiveOperationException e) {
+            ReflectionUtils.handleReflectionException(e);
+
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparator<Object> comparator(Collection<?> source) {
+        if (source instanceof SortedSet<?> sortedSet) {
+            return (Comparator<Object>) sortedSet.comparator();
+        } else if (source instanceof PriorityQueue<?> priorityQueue) {
+            return (Comparator<Object>) priorityQueue.comparator();
+        }
+
+        return null;
+    }
+
+    private static Collection<Object> approximateCollection(Collection<?> source, Comparator<Object> comparator) {
+        if (source instanceof SortedSet<?>) {
+            return new TreeSet<>(comparator);
+        } else if (source instanceof Set<?>) {
+            return new LinkedHashSet<>(source.size() * 2);
+        } else if (source instanceof PriorityQueue<?>) {
+            return new PriorityQueue<>(comparator);
+        } else if (source instanceof Queue<?>) {
+            // unlike ArrayDeque, also accepts null elements and is a List
+            return new LinkedList<>();
+        }
+
+        return new ArrayList<>(source.size());
+    }
+}
@@ -0,0 +1,231 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.Redactable;
+import com.danimaldan.redactor.masking.MaskingStrategy;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * State shared by every applicator during a single redaction pass. Also the API that {@link GeneratedRedactor}s call
+ * back into.
+ * <p>
+ * A context is confined to one thread at a time; parallel redaction gives each worker a context of its own, which
+ * reports back whether an authority expression was evaluated.
+ */
+public class RedactionContext {
+    private final AuthorityDecisions authorityDecisions;
+    private final RedactionOptions options;
+    @Nullable
+    private final Object principal;
+
+    /**
+     * Shared with the contexts of workers, so a parallel pass reports expressions evaluated on any of its threads.
+     */
+    private final AtomicBoolean expressionEvaluated;
+
+    @Nullable
+    private RedactionTraversal traversal;
+
+    public RedactionContext(HasAuthorityPredicate hasAuthorityPredicate) {
+        this(hasAuthorityPredicate, RedactionOptions.DEFAULT);
+    }
+
+    public RedactionContext(HasAuthorityPredicate hasAuthorityPredicate, RedactionOptions options) {
+        this(options.getAuthorityDecisionsFactory().create(options.getMetrics().instrument(hasAuthorityPredicate)), options, hasAuthorityPredicate.getPrincipal(), new AtomicBoolean());
+    }
+
+    private RedactionContext(AuthorityDecisions authorityDecisions, RedactionOptions options, @Nullable Object principal, AtomicBoolean expressionEvaluated) {
+        this.authorityDecisions = authorityDecisions;
+        this.options = options;
+        this.principal = principal;
+        this.expressionEvaluated = expressionEvaluated;
+    }
+
+    public static RedactionContext of(AuthorityDecisions authorityDecisions) {
+        return new RedactionContext(authorityDecisions, RedactionOptions.DEFAULT, null, new AtomicBoolean());
+    }
+
+    public RedactionOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Creates a context for one worker of a parallel redaction pass. Authority decisions are resolved up front and
+     * shared read-only with every other worker, and workers never split their share of the work any further.
+     */
+    RedactionContext forWorkers() {
+        return new RedactionContext(authorityDecisions.shareable(), options.withParallelThreshold(0), principal, expressionEvaluated);
+    }
+
+    /**
+     * Records that a decision depended on an authority expression, not only on the user's authorities.
+     */
+    void expressionEvaluated() {
+        // read first, so workers evaluating many expressions do not contend on writes
+        if (!expressionEvaluated.get()) {
+            expressionEvaluated.set(true);
+        }
+    }
+
+    boolean isExpressionEvaluated() {
+        return expressionEvaluated.get();
+    }
+
+    void resetExpressionEvaluated() {
+        expressionEvaluated.set(false);
+    }
+
+    /**
+     * The current user's principal, if known.
+     *
+     * @see HasAuthorityPredicate#getPrincipal()
+     */
+    @Nullable
+    public Object getPrincipal() {
+        return principal;
+    }
+
+    /**
+     * Determines if the current user may view a field requiring the given authority. An empty authority is always
+     * granted.
+     */
+    public boolean hasAuthority(@Nullable String requiredAuthority) {
+        return isGranted(AuthorityRegistry.intern(requiredAuthority));
+    }
+
+    /**
+     * Determines if the current user may view a field requiring the given interned authority.
+     *
+     * @see AuthorityRegistry#intern(String)
+     */
+    public boolean isGranted(int authorityId) {
+        if (authorityId == AuthorityRegistry.NO_AUTHORITY) {
+            return true;
+        }
+
+        return authorityDecisions.isGranted(authorityId);
+    }
+
+    /**
+     * Redacts the child properties of a field value the current user is authorized to view, unwrapping it first if it
+     * is {@link Redactable}.
+     */
+    public void redactNested(@Nullable Object fieldValue) {
+        if (fieldValue instanceof Redactable<?> redactableField) {
+            fieldValue = redactableField.getValue();
+        }
+
+        traverse(fieldValue);
+    }
+
+    /**
+     * Redacts a value and everything reachable from it. Values reached while a traversal is already running are only
+     * scheduled on it, so nested values never recurse.
+     */
+    void traverse(@Nullable Object value) {
+        if (traversal != null) {
+            traversal.push(value);
+
+            return;
+        }
+
+        // skip the traversal entirely if nothing reachable from the value can be redacted for the current user
+        if (value != null && RedactionValueKind.of(value.getClass()) == RedactionValueKind.OBJECT && RedactionReach.forClass(value.getClass()).canSkip(this)) {
+            return;
+        }
+
+        traversal = new RedactionTraversal(this);
+        try {
+            traversal.push(value);
+            traversal.run();
+        } finally {
+            traversal = null;
+        }
+    }
+
+    /**
+     * Applies the field decisions of a batch of a parallel level on this worker context. Nested values are scheduled on
+     * the traversal of the level rather than traversed here.
+     */
+    void redactBatch(List<Object> batch, RedactionTraversal level) {
+        var batchTraversal = new RedactionTraversal(this);
+
+        traversal = batchTraversal;
+        try {
+            batchTraversal.redactBatch(batch);
+        } finally {
+            traversal = null;
+        }
+
+        level.merge(batchTraversal);
+    }
+
+    /**
+     * Redacts the value of a field whose authority the current user is denied.
+     */
+    public void redact(@Nullable Redactable<?> fieldValue, int authorityId) {
+        redact(fieldValue, authorityId, null);
+    }
+
+    /**
+     * Redacts the value of a field whose authority the current user is denied, replacing it with its mask when the field
+     * has a {@link MaskingStrategy}, whose result type was checked against the field when its plan was built.
+     * <p>
+     * A traversal visits every object once, so a value is only masked again when separate redactions share it, e.g. the
+     * elements of a redacted stream. A value that is already redacted is never masked again, see
+     * {@link Redactable#mask(java.util.function.Function)}.
+     */
+    @SuppressWarnings("unchecked")
+    public void redact(@Nullable Redactable<?> fieldValue, int authorityId, @Nullable MaskingStrategy mask) {
+        if (fieldValue == null) {
+            return;
+        }
+
+        if (mask == null) {
+            fieldValue.redact();
+        } else {
+            ((Redactable<Object>) fieldValue).mask(mask::mask);
+        }
+
+        options.getMetrics().fieldRedacted(authorityId);
+    }
+
+    /**
+     * Determines if a value is not loaded, so it must be left as it is. Unwraps {@link Redactable} values first.
+     */
+    boolean isUnloaded(@Nullable Object value) {
+        if (value instanceof Redactable<?> redactable) {
+            value = redactable.getValue();
+        }
+
+        return value != null && RedactionValueKind.of(value.getClass()) != RedactionValueKind.LEAF && !options.getLoadStatePredicate().isLoaded(value);
+    }
+
+    /**
+     * Fails redaction of a value that is not loaded, found without a field to judge it by, e.g. the element of a
+     * collection, unless nothing within it can be redacted for the current user.
+     *
+     * @see RedactionReach#forUnloaded(Class)
+     */
+    void checkUnloaded(Object value) {
+        if (RedactionValueKind.of(value.getClass()) != RedactionValueKind.OBJECT || !RedactionReach.forUnloaded(value.getClass()).canSkip(this)) {
+            throw new IllegalStateException("Value of " + value.getClass().getName() + " is not loaded, but may hold values the current user is not authorized to view. Fetch it before redacting, or hold it in a Redactable field, since redaction never loads it.");
+        }
+    }
+
+    /**
+     * Fails redaction of a field that is not loaded, but may hold values the current user is not authorized to view.
+     */
+    void denyUnloaded(String fieldDescription) {
+        throw new IllegalStateException("@RedactAuthorize field '" + fieldDescription + "' is not loaded, but may hold values the current user is not authorized to view. Fetch it before redacting, since redaction never loads it.");
+    }
+
+    /**
+     * Fails redaction of a field that the current user is not authorized to view, but cannot be redacted.
+     */
+    public void denyNonRedactable(String fieldDescription) {
+        throw new IllegalArgumentException("@RedactAuthorize authorization is denied for field '" + fieldDescription + "', but field is not Redactable.");
+    }
+}
@@ -0,0 +1,411 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.Redactable;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Builds a redacted copy of an object graph without mutating it. Only objects and containers on a path from the root
+ * to a field that must be redacted are copied; every other subtree is shared with the original, and redacted fields
+ * share {@link Redactable#redacted()} unless they are masked.
+ * <p>
+ * Copied collections and maps keep the class of their source where possible, see {@link RedactionContainerFactory}.
+ * Initialized proxies are copied from the object they delegate to, see {@link LoadStatePredicate#unwrap(Object)}. Values
+ * that are not loaded are shared or fail closed like they do when redacting in place, see
+ * {@link RedactionPlan#apply(Object, RedactionField, RedactionContext, boolean)}.
+ * Map keys are only copied when {@link RedactionOptions#isRedactMapKeys()} is set, as they are only redacted then.
+ * <p>
+ * The graph is first collected iteratively and every object that can reach a redacted field is marked, which also
+ * covers cycles. Copies are then built recursively, so their depth is limited to the depth of the changed paths.
+ */
+final class RedactionCopy {
+    private static final Object IN_PROGRESS = new Object();
+
+    private final RedactionContext context;
+    private final Map<Object, Node> nodes = new IdentityHashMap<>();
+    private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+    /**
+     * Record if values shared with the original may reference the root, see {@link #sharesRoot()}.
+     */
+    private final boolean trackSharedRoot;
+    private Object root;
+    private boolean sharesRoot;
+
+    RedactionCopy(RedactionContext context) {
+        this(context, false);
+    }
+
+    RedactionCopy(RedactionContext context, boolean trackSharedRoot) {
+        this.context = context;
+        this.trackSharedRoot = trackSharedRoot;
+    }
+
+    Object copy(Object root) {
+        this.root = root;
+
+        if (!collect(root)) {
+            return root;
+        }
+
+        markReferrers();
+
+        return resolve(root);
+    }
+
+    /**
+     * Reads every authorized field reachable from the root exactly once.
+     *
+     * @return {@code true} if any field must be redacted
+     */
+    private boolean collect(Object root) {
+        Deque<Node> pending = new ArrayDeque<>();
+        var changed = false;
+
+        if (node(root, pending) == null) {
+            return false;
+        }
+
+        while (!pending.isEmpty()) {
+            var node = pending.pop();
+
+            switch (node.kind) {
+                case OBJECT -> {
+                    var fields = RedactionPlan.forClass(node.source.getClass(), context.getOptions().getMetrics()).getFields();
+                    var mayHoldUnloaded = context.getOptions().getLoadStatePredicate().mayHoldUnloaded(node.source.getClass());
+                    node.fieldValues = new Object[fields.size()];
+
+                    for (int i = 0; i < fields.size(); i++) {
+                        var field = fields.get(i);
+
+                        if (mayHoldUnloaded && !context.getOptions().getLoadStatePredicate().isLoaded(node.source, field.getName())) {
+                            // reading the field through its getter would load it, so it stays unset in a copy
+                            if (!field.isGranted(node.source, context) || !field.getUnloadedReach().canSkip(context)) {
+                                context.denyUnloaded(field.getField().toGenericString());
+                            }
+
+                            continue;
+                        }
+
+                        var fieldValue = field.read(node.source);
+                        node.fieldValues[i] = fieldValue;
+
+                        if (!field.isGranted(node.source, context)) {
+                            if (!field.isRedactable()) {
+                                context.denyNonRedactable(field.getField().toGenericString());
+                            }
+
+                            if (fieldValue != null && !((Redactable<?>) fieldValue).isRedacted()) {
+                                node.changed = true;
+                                changed = true;
+                            }
+                        } else if (mayHoldUnloaded && context.isUnloaded(fieldValue)) {
+                            // shared as it is if the user may see all of it, and redacted as a whole otherwise
+                            if (!field.getUnloadedReach().canSkip(context)) {
+                                if (!field.isRedactable()) {
+                                    context.denyUnloaded(field.getField().toGenericString());
+                                }
+
+                                if (!((Redactable<?>) fieldValue).isRedacted()) {
+                                    context.getOptions().getMetrics().fieldRedacted(field.getAuthorityId());
+                                    node.fieldValues[i] = Redactable.redacted();
+                                    node.changed = true;
+                                    changed = true;
+                                }
+                            }
+                        } else {
+                            link(node, fieldValue instanceof Redactable<?> redactable ? redactable.getValue() : fieldValue, pending);
+                        }
+                    }
+                }
+                case COLLECTION -> ((Collection<?>) node.value).forEach(element -> link(node, element, pending));
+                case MAP -> {
+                    var map = (Map<?, ?>) node.value;
+
+                    map.values().forEach(value -> link(node, value, pending));
+                    if (context.getOptions().isRedactMapKeys()) {
+                        map.keySet().forEach(key -> link(node, key, pending));
+                    }
+                }
+                case ARRAY -> {
+                    for (Object element : (Object[]) node.value) {
+                        link(node, element, pending);
+                    }
+                }
+                case OPTIONAL -> link(node, ((Optional<?>) node.value).orElse(null), pending);
+                default -> {
+                    // leaves are never collected
+                }
+            }
+        }
+
+        return changed;
+    }
+
+    private void link(Node referrer, Object value, Deque<Node> pending) {
+        var node = node(value, pending);
+        if (node != null) {
+            node.referrers.add(referrer);
+        }
+    }
+
+    private Node node(Object value, Deque<Node> pending) {
+        if (value == null) {
+            return null;
+        }
+
+        var node = nodes.get(value);
+        if (node != null) {
+            return node;
+        }
+
+        var kind = RedactionValueKind.of(value.getClass());
+        var loadStatePredicate = context.getOptions().getLoadStatePredicate();
+        if (kind == RedactionValueKind.LEAF
+                || kind == RedactionValueKind.OBJECT && RedactionReach.forClass(value.getClass()).canSkip(context)) {
+            // shared with the original as it is
+            return null;
+        }
+
+        if (!loadStatePredicate.isLoaded(value)) {
+            // shared with the original as it is, if the user may see all of it
+            context.checkUnloaded(value);
+
+            return null;
+        }
+
+        // an initialized proxy holds none of the state to copy, the object it delegates to does
+        node = new Node(value, kind == RedactionValueKind.OBJECT ? loadStatePredicate.unwrap(value) : value, kind);
+        nodes.put(value, node);
+        pending.push(node);
+
+        return node;
+    }
+
+    /**
+     * Marks every object that can reach a redacted field, since each of them needs a copy pointing at the copies below.
+     */
+    private void markReferrers() {
+        Deque<Node> pending = new ArrayDeque<>();
+        for (Node node : nodes.values()) {
+            if (node.changed) {
+                pending.push(node);
+            }
+        }
+
+        while (!pending.isEmpty()) {
+            for (Node referrer : pending.pop().referrers) {
+                if (!referrer.changed) {
+                    referrer.changed = true;
+                    pending.push(referrer);
+                }
+            }
+        }
+    }
+
+    /**
+     * Determines if the copy may reference its root through a value shared with the original, e.g. through the
+     * back-reference of a shared child to its parent, as judged by {@link ObjectGraphReachability}. Only recorded when
+     * tracking was requested.
+     */
+    boolean sharesRoot() {
+        return sharesRoot;
+    }
+
+    /**
+     * Resolves a value like {@link #resolve(Object)}, recording if it is shared with the original.
+     *
+     * @param field the field holding the value, or {@code null} for the elements of containers
+     */
+    private Object resolveShared(Object value, @Nullable Field field) {
+        var resolved = resolve(value);
+        if (resolved == value) {
+            share(value, field);
+        }
+
+        return resolved;
+    }
+
+    private void share(@Nullable Object value, @Nullable Field field) {
+        if (!trackSharedRoot || sharesRoot || value == null) {
+            return;
+        }
+
+        sharesRoot = value == root || ObjectGraphReachability.mayReach(value, field == null ? null : ResolvableType.forField(field), root.getClass());
+    }
+
+    private Object resolve(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        var node = nodes.get(value);
+        if (node == null || !node.changed) {
+            return value;
+        }
+
+        var copy = copies.get(value);
+        if (copy == IN_PROGRESS) {
+            throw new IllegalStateException("Cannot copy a cycle through " + value.getClass().getName() + " to redact it, a no-arg constructor is required.");
+        }
+
+        if (copy != null) {
+            return copy;
+        }
+
+        return switch (node.kind) {
+            case OBJECT -> copyObject(node);
+            case COLLECTION -> copyCollection((Collection<?>) value);
+            case MAP -> copyMap((Map<?, ?>) value);
+            case ARRAY -> copyArray((Object[]) value);
+            case OPTIONAL -> {
+                copies.put(value, IN_PROGRESS);
+                var optional = Optional.ofNullable(resolveShared(((Optional<?>) value).orElse(null), null));
+                copies.put(value, optional);
+
+                yield optional;
+            }
+            default -> value;
+        };
+    }
+
+    private Object copyObject(Node node) {
+        var source = node.source;
+        var copyPlan = RedactionCopyPlan.forClass(source.getClass());
+
+        if (copyPlan.isNoArg()) {
+            // register the copy before resolving its fields, so cycles lead back to it
+            var copy = copyPlan.newInstance();
+            copies.put(source, copy);
+
+            for (int i = 0; i < copyPlan.getFieldCount(); i++) {
+                copyPlan.writeField(i, copy, fieldValue(node, copyPlan, i));
+            }
+
+            return copy;
+        }
+
+        copies.put(source, IN_PROGRESS);
+
+        var args = new Object[copyPlan.getFieldCount()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = fieldValue(node, copyPlan, i);
+        }
+
+        var copy = copyPlan.newInstance(args);
+        copies.put(source, copy);
+
+        return copy;
+    }
+
+    private Object fieldValue(Node node, RedactionCopyPlan copyPlan, int fieldIndex) {
+        var planFieldIndex = copyPlan.getPlanFieldIndex(fieldIndex);
+        if (planFieldIndex < 0) {
+            var value = copyPlan.readField(fieldIndex, node.source);
+            share(value, copyPlan.getField(fieldIndex));
+
+            return value;
+        }
+
+        var field = RedactionPlan.forClass(node.source.getClass()).getFields().get(planFieldIndex);
+        var fieldValue = node.fieldValues[planFieldIndex];
+
+        if (!field.isGranted(node.source, context)) {
+            if (fieldValue == null || ((Redactable<?>) fieldValue).isRedacted()) {
+                share(fieldValue, field.getField());
+
+                return fieldValue;
+            }
+
+            context.getOptions().getMetrics().fieldRedacted(field.getAuthorityId());
+
+            // masking a value that is not loaded would load it
+            return field.getMask() != null && context.isUnloaded(fieldValue) ? Redactable.redacted() : field.redacted((Redactable<?>) fieldValue);
+        }
+
+        if (fieldValue instanceof Redactable<?> redactable) {
+            var value = redactable.getValue();
+            var resolved = resolve(value);
+            if (resolved != value) {
+                return new Redactable<>(resolved, redactable.isRedacted());
+            }
+
+            share(redactable, field.getField());
+
+            return redactable;
+        }
+
+        return resolveShared(fieldValue, field.getField());
+    }
+
+    private Collection<Object> copyCollection(Collection<?> source) {
+        var factory = RedactionContainerFactory.forClass(source.getClass());
+        var copy = factory.newCollection(source);
+        var sealed = factory.seal(copy);
+
+        copies.put(source, sealed);
+        for (Object element : source) {
+            copy.add(resolveShared(element, null));
+        }
+
+        return sealed;
+    }
+
+    private Map<Object, Object> copyMap(Map<?, ?> source) {
+        var factory = RedactionContainerFactory.forClass(source.getClass());
+        var copy = factory.newMap(source);
+        var sealed = factory.seal(copy);
+        var redactMapKeys = context.getOptions().isRedactMapKeys();
+
+        copies.put(source, sealed);
+        source.forEach((key, value) -> {
+            if (!redactMapKeys) {
+                share(key, null);
+            }
+
+            copy.put(redactMapKeys ? resolveShared(key, null) : key, resolveShared(value, null));
+        });
+
+        return sealed;
+    }
+
+    private Object[] copyArray(Object[] source) {
+        var copy = source.clone();
+
+        copies.put(source, copy);
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = resolveShared(copy[i], null);
+        }
+
+        return copy;
+    }
+
+    private static final class Node {
+        private final Object value;
+
+        /**
+         * The value itself, or the object it delegates to if it is a proxy.
+         */
+        private final Object source;
+        private final RedactionValueKind kind;
+        private final List<Node> referrers = new ArrayList<>(1);
+        private Object[] fieldValues;
+        private boolean changed;
+
+        private Node(Object value, Object source, RedactionValueKind kind) {
+            this.value = value;
+            this.source = source;
+            this.kind = kind;
+        }
+    }
+}
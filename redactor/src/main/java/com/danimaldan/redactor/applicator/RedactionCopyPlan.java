@@ -0,0 +1,164 @@
+package com.danimaldan.redactor.applicator;
+
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.ConstructorProperties;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * How to build a copy of a single class with some of its {@link com.danimaldan.redactor.RedactAuthorize} fields
+ * replaced, resolved once per class. In order of preference, copies are built through:
+ * <ol>
+ *     <li>the canonical constructor of a record,</li>
+ *     <li>a no-arg constructor, after which every instance field is copied,</li>
+ *     <li>a {@link ConstructorProperties} constructor covering every instance field, or</li>
+ *     <li>a constructor taking every declared field in declaration order, e.g. Lombok's {@code @AllArgsConstructor}.</li>
+ * </ol>
+ * Only copies built through a no-arg constructor exist before their fields are resolved, so only those can be part of a
+ * cycle.
+ */
+final class RedactionCopyPlan {
+    private static final ClassValue<RedactionCopyPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected RedactionCopyPlan computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final Constructor<?> constructor;
+
+    /**
+     * Fields to copy, in constructor parameter order unless {@link #isNoArg()}.
+     */
+    private final Field[] fields;
+
+    /**
+     * Index of each of {@link #fields} in the class's {@link RedactionPlan}, or {@code -1}.
+     */
+    private final int[] planFieldIndexes;
+
+    private RedactionCopyPlan(Class<?> type, Constructor<?> constructor, List<Field> fields) {
+        this.type = type;
+        this.constructor = constructor;
+        this.fields = fields.toArray(Field[]::new);
+        this.planFieldIndexes = new int[this.fields.length];
+
+        var planFields = RedactionPlan.forClass(type).getFields();
+        for (int i = 0; i < this.fields.length; i++) {
+            planFieldIndexes[i] = -1;
+
+            for (int j = 0; j < planFields.size(); j++) {
+                if (planFields.get(j).getField().equals(this.fields[i])) {
+                    planFieldIndexes[i] = j;
+                }
+            }
+
+            if (planFieldIndexes[i] >= 0 && !RedactionContainerFactory.canHoldCopies(this.fields[i].getType())) {
+                throw new IllegalArgumentException("Cannot copy " + type.getName() + " to redact it: field '" + this.fields[i].getName() + "' of type " + this.fields[i].getType().getName() + " cannot hold a copy of its value, declare it as an interface such as List, Set or Map instead.");
+            }
+
+            ReflectionUtils.makeAccessible(this.fields[i]);
+        }
+
+        if (constructor != null) {
+            ReflectionUtils.makeAccessible(constructor);
+        }
+    }
+
+    static RedactionCopyPlan forClass(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    boolean isNoArg() {
+        return constructor != null && constructor.getParameterCount() == 0;
+    }
+
+    int getFieldCount() {
+        return fields.length;
+    }
+
+    int getPlanFieldIndex(int fieldIndex) {
+        return planFieldIndexes[fieldIndex];
+    }
+
+    Field getField(int fieldIndex) {
+        return fields[fieldIndex];
+    }
+
+    Object readField(int fieldIndex, Object source) {
+        return ReflectionUtils.getField(fields[fieldIndex], source);
+    }
+
+    void writeField(int fieldIndex, Object target, Object value) {
+        ReflectionUtils.setField(fields[fieldIndex], target, value);
+    }
+
+    Object newInstance(Object... args) {
+        if (constructor == null) {
+            throw new IllegalArgumentException("Cannot copy " + type.getName() + " to redact it: a record, a no-arg constructor, a @ConstructorProperties constructor or a constructor taking all fields is required.");
+        }
+
+        try {
+            return constructor.newInstance(args);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not copy " + type.getName() + " to redact it. Details: " + e.getMessage(), e);
+        }
+    }
+
+    private static RedactionCopyPlan compile(Class<?> type) {
+        List<Field> instanceFields = new ArrayList<>();
+        ReflectionUtils.doWithFields(type, instanceFields::add, field -> !Modifier.isStatic(field.getModifiers()));
+
+        if (type.isRecord()) {
+            var componentTypes = Arrays.stream(type.getRecordComponents()).map(RecordComponent::getType).toArray(Class<?>[]::new);
+            var componentFields = Arrays.stream(type.getRecordComponents()).map(component -> ReflectionUtils.findField(type, component.getName())).toList();
+
+            return new RedactionCopyPlan(type, findConstructor(type, componentTypes), componentFields);
+        }
+
+        var noArgConstructor = findConstructor(type);
+        if (noArgConstructor != null) {
+            return new RedactionCopyPlan(type, noArgConstructor, instanceFields);
+        }
+
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            var constructorProperties = constructor.getAnnotation(ConstructorProperties.class);
+            if (constructorProperties == null) {
+                continue;
+            }
+
+            var parameterFields = Arrays.stream(constructorProperties.value()).map(name -> ReflectionUtils.findField(type, name)).toList();
+            if (!parameterFields.contains(null) && parameterFields.containsAll(instanceFields)) {
+                return new RedactionCopyPlan(type, constructor, parameterFields);
+            }
+        }
+
+        var declaredFieldTypes = instanceFields.stream().map(Field::getType).toArray(Class<?>[]::new);
+        var ownFieldsOnly = instanceFields.stream().allMatch(field -> field.getDeclaringClass() == type);
+        if (ownFieldsOnly) {
+            for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+                if (Arrays.equals(constructor.getParameterTypes(), declaredFieldTypes)) {
+                    // doWithFields lists fields in declaration order, as does Lombok
+                    return new RedactionCopyPlan(type, constructor, instanceFields);
+                }
+            }
+        }
+
+        return new RedactionCopyPlan(type, null, List.of());
+    }
+
+    private static Constructor<?> findConstructor(Class<?> type, Class<?>... parameterTypes) {
+        try {
+            return type.getDeclaredConstructor(parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import com.danimaldan.redactor.masking.MaskingStrategies;
+import com.danimaldan.redactor.masking.MaskingStrategy;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A single {@link RedactAuthorize} field of a {@link RedactionPlan}, with its annotation and getter resolved up front.
+ */
+final class RedactionField {
+    private final Field field;
+    private final ResolvableType type;
+    private final String requiredAuthority;
+    private final AuthorityRule readRule;
+    private final int authorityId;
+    private final AuthorityRule updateRule;
+    private final boolean redactable;
+    @Nullable
+    private final MaskingStrategy mask;
+    private final PropertyAccessor accessor;
+
+    /**
+     * Computed on first use, since values that are not loaded are rare. Racing threads compute the same reach.
+     */
+    @Nullable
+    private volatile RedactionReach unloadedReach;
+
+    private RedactionField(Field field, ResolvableType type, String requiredAuthority, AuthorityRule readRule, AuthorityRule updateRule, boolean redactable, @Nullable MaskingStrategy mask, PropertyAccessor accessor) {
+        this.field = field;
+        this.type = type;
+        this.requiredAuthority = requiredAuthority;
+        this.readRule = readRule;
+        this.authorityId = readRule.getAuthorityId();
+        this.updateRule = updateRule;
+        this.redactable = redactable;
+        this.mask = mask;
+        this.accessor = accessor;
+    }
+
+    static RedactionField of(Class<?> type, Field field, PropertyAccessorFactory accessorFactory) {
+        // resolves aliases and composed annotations, and compiles authority expressions, once per field
+        var redactAuthorize = MergedAnnotations.from(field).get(RedactAuthorize.class);
+        var readRule = AuthorityRule.read(redactAuthorize, type);
+
+        return new RedactionField(
+                field,
+                ResolvableType.forField(field, type),
+                redactAuthorize.getString("value"),
+                readRule,
+                AuthorityRule.update(redactAuthorize, readRule),
+                Redactable.class.isAssignableFrom(field.getType()),
+                resolveMask(type, field, redactAuthorize),
+                accessorFactory.create(resolveReadMethod(type, field))
+        );
+    }
+
+    /**
+     * Resolves the mask of a field, which must produce values its {@code Redactable<T>} can hold, so a mismatch fails
+     * when the plan is built rather than with a {@link ClassCastException} wherever the masked value is read.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static MaskingStrategy resolveMask(Class<?> type, Field field, MergedAnnotation<RedactAuthorize> redactAuthorize) {
+        var mask = MaskingStrategies.forClass((Class<? extends MaskingStrategy>) redactAuthorize.getClass("mask"));
+        if (mask == null) {
+            return null;
+        }
+
+        var valueType = ResolvableType.forField(field, type).as(Redactable.class).getGeneric(0).resolve(Object.class);
+        var maskedType = MaskingStrategies.maskedType(mask);
+
+        if (!ClassUtils.isAssignable(valueType, maskedType)) {
+            throw new IllegalArgumentException("@RedactAuthorize mask " + mask.getClass().getName() + " of field '" + field.toGenericString() + "' produces " + maskedType.getName() + ", which cannot be assigned to its value type " + valueType.getName() + ".");
+        }
+
+        return mask;
+    }
+
+    private static Method resolveReadMethod(Class<?> type, Field field) {
+        if (type.isRecord()) {
+            // record components are read through their accessor, e.g. password() instead of getPassword()
+            return resolveRecordAccessor(type, field);
+        }
+
+        try {
+            var fieldName = field.getName();
+            var readMethodName = "is" + StringUtils.capitalize(fieldName); // will also search for 'get' if 'is' prefix fails
+
+            return new PropertyDescriptor(fieldName, type, readMethodName, null)
+                    .getReadMethod();
+        } catch (IntrospectionException e) {
+            throw new RuntimeException("Could not access getter for field '" + field.getGenericType() + "', a public getter is required for all properties having @RedactAuthorize annotation. Details: " + e.getMessage(), e);
+        }
+    }
+
+    private static Method resolveRecordAccessor(Class<?> type, Field field) {
+        for (var recordComponent : type.getRecordComponents()) {
+            if (recordComponent.getName().equals(field.getName())) {
+                return recordComponent.getAccessor();
+            }
+        }
+
+        throw new RuntimeException("Could not access accessor for record component '" + field.getGenericType() + "' of " + type.getName() + ".");
+    }
+
+    Field getField() {
+        return field;
+    }
+
+    /**
+     * Name of this field, which is also the name of its JPA attribute.
+     */
+    String getName() {
+        return field.getName();
+    }
+
+    /**
+     * Reach of a value of this field that is not loaded, judged by the declared type of this field.
+     *
+     * @see RedactionReach#forUnloaded(ResolvableType)
+     */
+    RedactionReach getUnloadedReach() {
+        var reach = unloadedReach;
+        if (reach == null) {
+            reach = RedactionReach.forUnloaded(type);
+            unloadedReach = reach;
+        }
+
+        return reach;
+    }
+
+    String getRequiredAuthority() {
+        return requiredAuthority;
+    }
+
+    /**
+     * Interned id of the authority reported when this field is redacted, see {@link AuthorityRule#getAuthorityId()}.
+     */
+    int getAuthorityId() {
+        return authorityId;
+    }
+
+    AuthorityRule getReadRule() {
+        return readRule;
+    }
+
+    /**
+     * Rule for changing the value of this field, which defaults to {@link #getReadRule()}.
+     */
+    AuthorityRule getUpdateRule() {
+        return updateRule;
+    }
+
+    /**
+     * Determines if the current user may view this field on the given object.
+     */
+    boolean isGranted(Object object, RedactionContext context) {
+        return readRule.isGranted(context, object);
+    }
+
+    boolean requiresAuthority() {
+        return !readRule.isUnconditional();
+    }
+
+    boolean isRedactable() {
+        return redactable;
+    }
+
+    /**
+     * Strategy replacing the value of this field when redacted, or {@code null} to null it.
+     */
+    @Nullable
+    MaskingStrategy getMask() {
+        return mask;
+    }
+
+    /**
+     * Redacted replacement for a value of this field, which shares {@link Redactable#redacted()} unless masked.
+     */
+    Redactable<?> redacted(Redactable<?> fieldValue) {
+        var value = fieldValue.getValue();
+        if (mask == null || value == null) {
+            return Redactable.redacted();
+        }
+
+        return new Redactable<>(mask.mask(value), true);
+    }
+
+    /**
+     * Value of this field before anything is assigned to it, {@code null} unless it is primitive.
+     */
+    @Nullable
+    Object defaultValue() {
+        return field.getType().isPrimitive() ? Array.get(Array.newInstance(field.getType(), 1), 0) : null;
+    }
+
+    /**
+     * Resets this field of the given object to its {@link #defaultValue()}, directly rather than through a setter, to
+     * discard an update the user may not make.
+     */
+    void reset(Object object) {
+        if (Modifier.isFinal(field.getModifiers())) {
+            throw new IllegalArgumentException("@RedactAuthorize update authorization is denied for final field '" + field.toGenericString() + "', which can only be discarded if it is Redactable.");
+        }
+
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, object, defaultValue());
+    }
+
+    /**
+     * Reads the value of this field from the given object through its public getter.
+     */
+    Object read(Object object) {
+        if (object == null) {
+            return null;
+        }
+
+        return accessor.get(object);
+    }
+}
@@ -0,0 +1,30 @@
+package com.danimaldan.redactor.applicator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.CollectionUtils;
+
+import java.util.Map;
+
+/**
+ * Redacts the values of a map in a single pass over its {@link Map#values()} view, and its keys as well when
+ * {@link RedactionOptions#isRedactMapKeys()} is set.
+ */
+@Slf4j
+class RedactionMapApplicator implements RedactionApplicator {
+    private final Map<?, ?> map;
+    private final RedactionContext context;
+
+    public RedactionMapApplicator(Map<?, ?> map, RedactionContext context) {
+        this.map = map;
+        this.context = context;
+    }
+
+    @Override
+    public void redact() {
+        if (CollectionUtils.isEmpty(map)) {
+            return;
+        }
+
+        context.traverse(map);
+    }
+}
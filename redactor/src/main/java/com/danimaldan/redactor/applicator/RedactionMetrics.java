@@ -0,0 +1,64 @@
+package com.danimaldan.redactor.applicator;
+
+import java.lang.reflect.Method;
+
+/**
+ * Receives measurements from the redaction hot paths. Every method defaults to a no-op, and applicators report per
+ * traversal rather than per object where they can, so {@link #NOOP} costs next to nothing.
+ *
+ * @see MicrometerRedactionMetrics
+ */
+public interface RedactionMetrics {
+    RedactionMetrics NOOP = new RedactionMetrics() {
+    };
+
+    /**
+     * Wraps the predicate of a new {@link RedactionContext}, e.g. to count the authority checks that reach it.
+     */
+    default HasAuthorityPredicate instrument(HasAuthorityPredicate hasAuthorityPredicate) {
+        return hasAuthorityPredicate;
+    }
+
+    /**
+     * Called once a traversal has redacted an object graph.
+     *
+     * @param objects number of objects visited
+     * @param fields  number of {@code @RedactAuthorize} fields read
+     */
+    default void traversed(int objects, int fields) {
+    }
+
+    /**
+     * Called for every lookup of the redaction plan of a class, which redaction does once per class change rather than
+     * per object.
+     *
+     * @param firstUse {@code true} for the first lookup of the plan reported here, which counts as a miss even if the
+     *                 plan was precompiled at startup
+     */
+    default void planLookedUp(Class<?> type, boolean firstUse) {
+    }
+
+    /**
+     * Called for every lookup of a view in a {@link RedactedViewCache}.
+     */
+    default void viewCacheLookedUp(boolean hit) {
+    }
+
+    /**
+     * Called for every field redacted because its authority was denied.
+     */
+    default void fieldRedacted(int authorityId) {
+    }
+
+    /**
+     * Called for every collection, map or array whose elements are visited.
+     */
+    default void containerVisited(int size) {
+    }
+
+    /**
+     * Called once the return value of a {@code @Redact} method has been redacted.
+     */
+    default void methodRedacted(Method method, long durationNanos) {
+    }
+}
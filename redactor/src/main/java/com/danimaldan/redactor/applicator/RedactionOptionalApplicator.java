@@ -0,0 +1,21 @@
+package com.danimaldan.redactor.applicator;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+
+@Slf4j
+class RedactionOptionalApplicator implements RedactionApplicator {
+    private final Optional<?> optional;
+    private final RedactionContext context;
+
+    public RedactionOptionalApplicator(Optional<?> optional, RedactionContext context) {
+        this.optional = optional;
+        this.context = context;
+    }
+
+    @Override
+    public void redact() {
+        context.traverse(optional);
+    }
+}
@@ -0,0 +1,74 @@
+package com.danimaldan.redactor.applicator;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.With;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tuning options for a single redaction pass.
+ */
+@Value
+@With
+@Builder(toBuilder = true)
+public class RedactionOptions {
+    public static final RedactionOptions DEFAULT = RedactionOptions.builder().build();
+
+    /**
+     * Creates the {@link AuthorityDecisions} used to check authorities during the pass.
+     */
+    @Builder.Default
+    AuthorityDecisionsFactory authorityDecisionsFactory = AuthorityDecisionsFactory.memoizing();
+
+    /**
+     * Collections with at least this many elements are split across {@link #forkJoinPool}. {@code 0} disables parallel
+     * redaction.
+     */
+    @Builder.Default
+    int parallelThreshold = 0;
+
+    /**
+     * Pool used for parallel redaction. Defaults to the common pool, applications should provide a dedicated pool so
+     * large redactions cannot starve other work.
+     */
+    @Builder.Default
+    ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+
+    /**
+     * Return a redacted copy that shares every untouched subtree with the original, instead of redacting in place.
+     *
+     * @see RedactionApplicatorFactory#copy(Object, RedactionContext)
+     */
+    @Builder.Default
+    boolean copyOnRedact = false;
+
+    /**
+     * Cache of redacted copies to use when {@link #isCopyOnRedact()} is set, or {@code null} to always copy.
+     */
+    @Builder.Default
+    RedactedViewCache viewCache = null;
+
+    /**
+     * Receives measurements of redaction, e.g. {@link MicrometerRedactionMetrics}.
+     */
+    @Builder.Default
+    RedactionMetrics metrics = RedactionMetrics.NOOP;
+
+    /**
+     * Also redact the keys of maps, not only their values.
+     */
+    @Builder.Default
+    boolean redactMapKeys = false;
+
+    /**
+     * Values that are not loaded are neither read nor redacted, e.g. uninitialized JPA proxies, so redaction never
+     * loads them.
+     */
+    @Builder.Default
+    LoadStatePredicate loadStatePredicate = LoadStatePredicate.ALWAYS_LOADED;
+
+    boolean isParallel(int size) {
+        return parallelThreshold > 0 && size >= parallelThreshold;
+    }
+}
@@ -0,0 +1,148 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Precompiled list of {@link RedactAuthorize} fields for a single class. Plans are computed once per class and cached
+ * for the lifetime of that class, so the reflective walk over the class hierarchy only happens on first use.
+ */
+@Slf4j
+final class RedactionPlan {
+    private static final ReflectionUtils.FieldFilter REDACT_AUTHORIZE_FIELD_FILTER = field -> MergedAnnotations.from(field).isPresent(RedactAuthorize.class);
+
+    private static final PropertyAccessorFactory ACCESSOR_FACTORY = PropertyAccessorFactory.defaultFactory();
+
+    private static final ClassValue<RedactionPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected RedactionPlan computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final List<RedactionField> fields;
+
+    /**
+     * Set by the first lookup reported to {@link RedactionMetrics}, which counts as the miss that compiled this plan.
+     */
+    private final AtomicBoolean used = new AtomicBoolean();
+
+    private RedactionPlan(Class<?> type, List<RedactionField> fields) {
+        this.type = type;
+        this.fields = fields;
+    }
+
+    /**
+     * Returns the cached plan for the given class, compiling it on first access.
+     */
+    static RedactionPlan forClass(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Returns the cached plan for the given class like {@link #forClass(Class)}, reporting the lookup to the given
+     * metrics.
+     */
+    static RedactionPlan forClass(Class<?> type, RedactionMetrics metrics) {
+        var plan = PLANS.get(type);
+
+        // read first, so lookups of warm plans never write
+        metrics.planLookedUp(type, !plan.used.get() && plan.used.compareAndSet(false, true));
+
+        return plan;
+    }
+
+    static RedactionPlan compile(Class<?> type) {
+        return compile(type, ACCESSOR_FACTORY);
+    }
+
+    static RedactionPlan compile(Class<?> type, PropertyAccessorFactory accessorFactory) {
+        List<RedactionField> fields = new ArrayList<>();
+
+        ReflectionUtils.doWithFields(type, field -> fields.add(RedactionField.of(type, field, accessorFactory)), REDACT_AUTHORIZE_FIELD_FILTER);
+
+        log.debug("Compiled redaction plan for {} with {} @RedactAuthorize field(s)", type.getName(), fields.size());
+
+        return new RedactionPlan(type, Collections.unmodifiableList(fields));
+    }
+
+    Class<?> getType() {
+        return type;
+    }
+
+    List<RedactionField> getFields() {
+        return fields;
+    }
+
+    boolean isEmpty() {
+        return fields.isEmpty();
+    }
+
+    /**
+     * Applies every field decision of this plan to a single object in one pass. Field values the user is authorized to
+     * view are handed back to the context, so their child properties are redacted in a later pass of the traversal.
+     *
+     * @param mayHoldUnloaded whether the object may hold attributes or associations that are not loaded, see
+     *                        {@link LoadStatePredicate#mayHoldUnloaded(Class)}
+     */
+    void apply(Object object, RedactionContext context, boolean mayHoldUnloaded) {
+        for (RedactionField field : fields) {
+            apply(object, field, context, mayHoldUnloaded);
+        }
+    }
+
+    /**
+     * Applies the decision of a single field. A field or field value that is not loaded is left as it is if nothing
+     * within it can be redacted for the current user, and fails closed otherwise: a {@link Redactable} holding the value
+     * is redacted as a whole, and anything else is rejected.
+     */
+    static void apply(Object object, RedactionField field, RedactionContext context, boolean mayHoldUnloaded) {
+        if (mayHoldUnloaded && !context.getOptions().getLoadStatePredicate().isLoaded(object, field.getName())) {
+            // reading the field through its getter would load it
+            if (!field.isGranted(object, context) || !field.getUnloadedReach().canSkip(context)) {
+                context.denyUnloaded(field.getField().toGenericString());
+            }
+
+            return;
+        }
+
+        var fieldValue = field.read(object);
+
+        if (!field.isGranted(object, context)) {
+            // not authorized to view field, redact it
+            if (!field.isRedactable()) {
+                context.denyNonRedactable(field.getField().toGenericString());
+            }
+
+            // masking a value that is not loaded would load it
+            var mask = field.getMask() != null && context.isUnloaded(fieldValue) ? null : field.getMask();
+            context.redact((Redactable<?>) fieldValue, field.getAuthorityId(), mask);
+
+            return;
+        }
+
+        if (mayHoldUnloaded && context.isUnloaded(fieldValue)) {
+            if (!field.getUnloadedReach().canSkip(context)) {
+                if (!field.isRedactable()) {
+                    context.denyUnloaded(field.getField().toGenericString());
+                }
+
+                // never masked, which would read the value
+                context.redact((Redactable<?>) fieldValue, field.getAuthorityId());
+            }
+
+            return;
+        }
+
+        context.redactNested(fieldValue);
+    }
+}
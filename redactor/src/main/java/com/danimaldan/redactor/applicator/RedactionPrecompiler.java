@@ -0,0 +1,86 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import org.springframework.core.ResolvableType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compiles the redaction plans of every class reachable from a type ahead of the first redaction, and validates them
+ * on the way. Unlike {@link RedactionReach}, the walk goes on past non-final types and through the generics of any
+ * type, so a {@code Mono<List<User>>} reaches {@code User} and everything below it.
+ */
+final class RedactionPrecompiler {
+    private final Set<Class<?>> visited = new LinkedHashSet<>();
+    private final Deque<ResolvableType> pending = new ArrayDeque<>();
+    private final List<String> errors = new ArrayList<>();
+
+    /**
+     * @return the classes whose plans were compiled
+     * @throws IllegalStateException listing every misconfigured {@link RedactAuthorize} field that was found
+     */
+    Set<Class<?>> precompile(ResolvableType root) {
+        pending.push(root);
+
+        while (!pending.isEmpty()) {
+            var type = pending.pop();
+            var resolved = type.resolve();
+            if (resolved == null) {
+                continue;
+            }
+
+            if (resolved.isArray()) {
+                pending.push(type.getComponentType());
+            }
+
+            for (ResolvableType generic : type.getGenerics()) {
+                pending.push(generic);
+            }
+
+            if (isPlanned(resolved) && visited.add(resolved)) {
+                precompileClass(resolved);
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Invalid @RedactAuthorize configuration reachable from " + root + ":\n  " + String.join("\n  ", errors));
+        }
+
+        return visited;
+    }
+
+    /**
+     * Determines if instances of the given class are redacted through a plan, rather than being unwrapped.
+     */
+    private static boolean isPlanned(Class<?> type) {
+        return !type.isPrimitive() && !Redactable.class.isAssignableFrom(type) && RedactionValueKind.of(type) == RedactionValueKind.OBJECT;
+    }
+
+    private void precompileClass(Class<?> type) {
+        RedactionPlan plan;
+        try {
+            plan = RedactionPlan.forClass(type);
+        } catch (RuntimeException e) {
+            errors.add(type.getName() + ": " + e.getMessage());
+
+            return;
+        }
+
+        for (RedactionField field : plan.getFields()) {
+            if (field.requiresAuthority() && !field.isRedactable()) {
+                errors.add("field '" + field.getField().toGenericString() + "' requires '" + field.getReadRule() + "', but is not Redactable, so it cannot be redacted when that is denied.");
+            }
+
+            pending.push(ResolvableType.forField(field.getField(), type));
+        }
+
+        RedactionReach.forClass(type);
+        GeneratedRedactors.forClass(type);
+    }
+}
@@ -0,0 +1,227 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.Redactable;
+import org.springframework.core.ResolvableType;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The authorities whose denial can cause any redaction in the type graph reachable from a class, computed once per
+ * class. When the current user holds all of them, nothing an instance decides itself can change, so only the values of
+ * its open fields, if any, need to be visited.
+ * <p>
+ * The analysis follows the declared types of {@link com.danimaldan.redactor.RedactAuthorize} fields, including the
+ * elements of {@link Redactable}s and containers. A field whose declared type could hold a subclass with fields of its
+ * own is open, as is a field reaching such a type, and its values are always visited, so their reach is looked up by
+ * their runtime class. A field with an authority expression makes the whole reach open, and instances of such types
+ * are always visited.
+ * <p>
+ * Values that are not loaded cannot be visited, nor is their runtime class known, so they are judged by the reach of
+ * their declared types alone, see {@link #forUnloaded(Class)}.
+ */
+final class RedactionReach {
+    private static final RedactionReach OPEN = new RedactionReach(null, List.of());
+
+    private static final ClassValue<RedactionReach> REACHES = new ClassValue<>() {
+        @Override
+        protected RedactionReach computeValue(Class<?> type) {
+            return compute(type);
+        }
+    };
+
+    private static final ClassValue<RedactionReach> UNLOADED_REACHES = new ClassValue<>() {
+        @Override
+        protected RedactionReach computeValue(Class<?> type) {
+            return forUnloaded(ResolvableType.forClass(type));
+        }
+    };
+
+    /**
+     * Interned ids of the reachable authorities, or {@code null} if the reach is open as a whole.
+     */
+    private final int[] authorityIds;
+
+    /**
+     * Fields whose values may be of classes the authorities do not cover.
+     */
+    private final List<RedactionField> openFields;
+
+    private RedactionReach(int[] authorityIds, List<RedactionField> openFields) {
+        this.authorityIds = authorityIds;
+        this.openFields = openFields;
+    }
+
+    static RedactionReach forClass(Class<?> type) {
+        return REACHES.get(type);
+    }
+
+    /**
+     * Returns the reach of a value of the given class that is not loaded, e.g. an uninitialized proxy, which follows the
+     * declared types of fields whether they could hold subclasses or not. The reach has no open fields, so an unloaded
+     * value can be left as it is if {@link #canSkip(RedactionContext)}.
+     */
+    static RedactionReach forUnloaded(Class<?> type) {
+        return UNLOADED_REACHES.get(type);
+    }
+
+    /**
+     * Returns the reach of a value declared with the given type that is not loaded, e.g. an uninitialized collection,
+     * like {@link #forUnloaded(Class)}.
+     */
+    static RedactionReach forUnloaded(ResolvableType type) {
+        var authorityIds = new BitSet();
+
+        return collect(type, authorityIds, true) ? new RedactionReach(authorityIds.stream().toArray(), List.of()) : OPEN;
+    }
+
+    /**
+     * Determines if the authorities do not cover everything reachable from an instance.
+     */
+    boolean isOpen() {
+        return authorityIds == null || !openFields.isEmpty();
+    }
+
+    int[] getAuthorityIds() {
+        return authorityIds == null ? null : authorityIds.clone();
+    }
+
+    List<RedactionField> getOpenFields() {
+        return openFields;
+    }
+
+    /**
+     * Determines if redacting an instance can change anything for the user of the given context, apart from the values
+     * of its open fields.
+     */
+    boolean canRedact(RedactionContext context) {
+        if (authorityIds == null) {
+            return true;
+        }
+
+        for (int authorityId : authorityIds) {
+            if (!context.isGranted(authorityId)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Determines if nothing reachable from an instance can change for the user of the given context, so it need not be
+     * visited at all.
+     */
+    boolean canSkip(RedactionContext context) {
+        return openFields.isEmpty() && !canRedact(context);
+    }
+
+    /**
+     * Collects the authorities of every type reachable from the given class. The class itself is closed, since it is
+     * always the runtime class of an instance, and so is every type reachable only through final types.
+     */
+    private static RedactionReach compute(Class<?> root) {
+        var authorityIds = new BitSet();
+        List<RedactionField> openFields = new ArrayList<>();
+
+        for (RedactionField field : RedactionPlan.forClass(root).getFields()) {
+            if (field.getReadRule().isDynamic()) {
+                // the decision depends on the object, not only on the user's authorities
+                return OPEN;
+            }
+
+            field.getReadRule().collectAuthorityIds(authorityIds);
+
+            if (!collect(ResolvableType.forField(field.getField(), root), authorityIds, false)) {
+                openFields.add(field);
+            }
+        }
+
+        return new RedactionReach(authorityIds.stream().toArray(), List.copyOf(openFields));
+    }
+
+    /**
+     * Collects the authorities of every type a field value of the given type can reach. Cycles in the type graph are
+     * walked once.
+     *
+     * @param declared whether to follow the declared types of fields, even if they could hold subclasses
+     * @return {@code false} if an open type is reachable, whose values must be visited to know their reach
+     */
+    private static boolean collect(ResolvableType fieldType, BitSet authorityIds, boolean declared) {
+        Set<Class<?>> visited = new HashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+
+        if (!pushValueTypes(fieldType, pending, declared)) {
+            return false;
+        }
+
+        while (!pending.isEmpty()) {
+            var type = pending.pop();
+            if (!visited.add(type)) {
+                continue;
+            }
+
+            for (RedactionField field : RedactionPlan.forClass(type).getFields()) {
+                if (field.getReadRule().isDynamic()) {
+                    return false;
+                }
+
+                field.getReadRule().collectAuthorityIds(authorityIds);
+
+                if (!pushValueTypes(ResolvableType.forField(field.getField(), type), pending, declared)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Schedules the classes whose instances a field value of the given type may hold.
+     *
+     * @return {@code false} if the type is open
+     */
+    private static boolean pushValueTypes(ResolvableType type, Deque<Class<?>> pending, boolean declared) {
+        var resolved = type.resolve();
+        if (resolved == null) {
+            return false;
+        }
+
+        if (resolved.isPrimitive()) {
+            return true;
+        }
+
+        if (Redactable.class.isAssignableFrom(resolved)) {
+            return pushValueTypes(type.as(Redactable.class).getGeneric(0), pending, declared);
+        }
+
+        if (resolved.isArray()) {
+            return pushValueTypes(type.getComponentType(), pending, declared);
+        }
+
+        return switch (RedactionValueKind.of(resolved)) {
+            case COLLECTION -> pushValueTypes(type.asCollection().getGeneric(0), pending, declared);
+            case MAP -> pushValueTypes(type.asMap().getGeneric(0), pending, declared) && pushValueTypes(type.asMap().getGeneric(1), pending, declared);
+            case OPTIONAL -> pushValueTypes(type.getGeneric(0), pending, declared);
+            // subclasses of concrete JDK classes are not expected to carry @RedactAuthorize fields, but Object and JDK
+            // interfaces may hold anything
+            case LEAF -> resolved != Object.class && !resolved.isInterface() && !Modifier.isAbstract(resolved.getModifiers());
+            case OBJECT -> {
+                if (declared ? resolved.isInterface() : !Modifier.isFinal(resolved.getModifiers())) {
+                    yield false;
+                }
+
+                pending.push(resolved);
+                yield true;
+            }
+            case ARRAY -> false;
+        };
+    }
+}
@@ -0,0 +1,216 @@
+package com.danimaldan.redactor.applicator;
+
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redacts an object graph level by level from an explicit work list instead of recursing into each field, so deep
+ * graphs cannot overflow the stack. Objects and containers are visited at most once by identity, so cycles terminate
+ * and shared objects are redacted once no matter how many paths reach them.
+ * <p>
+ * All objects of a level are visited together and their plans are only looked up when the class changes. Levels
+ * reaching {@link RedactionOptions#getParallelThreshold()} are deduplicated on the calling thread and then split across
+ * the configured {@link java.util.concurrent.ForkJoinPool}. Workers only apply the field decisions of their share and
+ * hand nested values back to the next level, so values shared between shares are still visited once, by one thread.
+ * <p>
+ * Values that are not loaded according to {@link RedactionOptions#getLoadStatePredicate()} are never read. They are
+ * left as they are if nothing within them can be redacted for the current user, and fail closed otherwise, see
+ * {@link RedactionPlan#apply(Object, RedactionField, RedactionContext, boolean)}.
+ */
+final class RedactionTraversal {
+    private static final int MIN_BATCH_SIZE = 1_024;
+    private static final int BATCHES_PER_WORKER = 4;
+
+    private final RedactionContext context;
+    private final LoadStatePredicate loadStatePredicate;
+    private final IdentityHashSet visited = new IdentityHashSet();
+    private List<Object> pending = new ArrayList<>();
+    private int objectCount;
+    private int fieldCount;
+
+    RedactionTraversal(RedactionContext context) {
+        this.context = context;
+        this.loadStatePredicate = context.getOptions().getLoadStatePredicate();
+    }
+
+    /**
+     * Schedules a value for redaction of its child properties, unless it can have none. A value that is not loaded is
+     * checked instead, since reading its child properties would load it.
+     */
+    void push(@Nullable Object value) {
+        if (value == null || RedactionValueKind.of(value.getClass()) == RedactionValueKind.LEAF) {
+            return;
+        }
+
+        if (!loadStatePredicate.isLoaded(value)) {
+            context.checkUnloaded(value);
+
+            return;
+        }
+
+        pending.add(value);
+    }
+
+    void run() {
+        var options = context.getOptions();
+
+        while (!pending.isEmpty()) {
+            var level = pending;
+            pending = new ArrayList<>();
+
+            if (options.isParallel(level.size())) {
+                var unvisited = unvisited(level);
+
+                options.getForkJoinPool().invoke(new RedactionCollectionTask(unvisited.spliterator(), this, context.forWorkers(), batchSize(unvisited.size())));
+            } else {
+                redactLevel(level, true);
+            }
+        }
+
+        options.getMetrics().traversed(objectCount, fieldCount);
+    }
+
+    /**
+     * Applies the field decisions of a batch of a parallel level, whose values have already been visited by the
+     * traversal of the level. Nested values are only collected, to be merged back with {@link #merge}.
+     */
+    void redactBatch(List<Object> batch) {
+        redactLevel(batch, false);
+    }
+
+    /**
+     * Schedules the nested values collected by a batch on the next level of this traversal. Called by the workers of a
+     * parallel level as they finish their batch.
+     */
+    synchronized void merge(RedactionTraversal batch) {
+        pending.addAll(batch.pending);
+        objectCount += batch.objectCount;
+        fieldCount += batch.fieldCount;
+    }
+
+    private List<Object> unvisited(List<Object> level) {
+        var unvisited = new ArrayList<>(level.size());
+        for (Object value : level) {
+            if (visited.add(value)) {
+                unvisited.add(value);
+            }
+        }
+
+        return unvisited;
+    }
+
+    private void redactLevel(List<Object> level, boolean visit) {
+        // values are usually of a single class, so only look up the plan when the class changes
+        Class<?> type = null;
+        RedactionValueKind kind = null;
+        RedactionReach reach = null;
+        RedactionPlan plan = null;
+        GeneratedRedactor<Object> generatedRedactor = null;
+        boolean mayHoldUnloaded = false;
+        boolean skip = false;
+        int fieldsPerValue = 0;
+
+        for (Object value : level) {
+            if (visit && !visited.add(value)) {
+                continue;
+            }
+
+            if (value.getClass() != type) {
+                type = value.getClass();
+                kind = RedactionValueKind.of(type);
+
+                reach = kind == RedactionValueKind.OBJECT ? RedactionReach.forClass(type) : null;
+                skip = reach != null && !reach.canRedact(context);
+                mayHoldUnloaded = kind == RedactionValueKind.OBJECT && loadStatePredicate.mayHoldUnloaded(type);
+
+                // prefer a redactor generated by redactor-processor over reflection, unless fields must be checked
+                // before they are read
+                generatedRedactor = kind == RedactionValueKind.OBJECT && !skip && !mayHoldUnloaded ? GeneratedRedactors.forClass(type).orElse(null) : null;
+                plan = kind == RedactionValueKind.OBJECT && !skip && generatedRedactor == null ? RedactionPlan.forClass(type, context.getOptions().getMetrics()) : null;
+                fieldsPerValue = generatedRedactor != null ? generatedRedactor.getFieldCount() : plan != null ? plan.getFields().size() : 0;
+            }
+
+            if (skip) {
+                // nothing this value decides can be redacted for the current user, but its open fields may hold
+                // subclasses that can
+                for (RedactionField field : reach.getOpenFields()) {
+                    RedactionPlan.apply(value, field, context, mayHoldUnloaded);
+                }
+
+                continue;
+            }
+
+            if (kind == RedactionValueKind.OBJECT) {
+                objectCount++;
+                fieldCount += fieldsPerValue;
+            }
+
+            if (generatedRedactor != null) {
+                generatedRedactor.redact(value, context);
+            } else if (plan != null) {
+                plan.apply(value, context, mayHoldUnloaded);
+            } else {
+                pushElements(value, kind);
+            }
+        }
+    }
+
+    /**
+     * Flattens a container into the next level, so elements of the same class across all containers are visited
+     * together.
+     */
+    private void pushElements(Object container, RedactionValueKind kind) {
+        var metrics = context.getOptions().getMetrics();
+
+        switch (kind) {
+            case COLLECTION -> {
+                var collection = (Collection<?>) container;
+
+                metrics.containerVisited(collection.size());
+                pushAll(collection);
+            }
+            case MAP -> {
+                var map = (Map<?, ?>) container;
+
+                metrics.containerVisited(map.size());
+
+                pushAll(map.values());
+                if (context.getOptions().isRedactMapKeys()) {
+                    pushAll(map.keySet());
+                }
+            }
+            case ARRAY -> {
+                metrics.containerVisited(((Object[]) container).length);
+
+                for (Object element : (Object[]) container) {
+                    push(element);
+                }
+            }
+            case OPTIONAL -> push(((Optional<?>) container).orElse(null));
+            default -> {
+                // not a container
+            }
+        }
+    }
+
+    private void pushAll(Collection<?> values) {
+        for (Object value : values) {
+            push(value);
+        }
+    }
+
+    /**
+     * Splits a level into a few batches per worker, but never into batches so small that forking costs more than
+     * redacting them.
+     */
+    private int batchSize(int size) {
+        var parallelism = context.getOptions().getForkJoinPool().getParallelism();
+
+        return Math.max(MIN_BATCH_SIZE, size / (parallelism * BATCHES_PER_WORKER));
+    }
+}
@@ -0,0 +1,103 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Enforces {@link RedactAuthorize#updateAuthority()} on an incoming object graph in a single pass, using the same
+ * cached {@link RedactionPlan}s as redaction.
+ * <p>
+ * Without the prior state of the object, any value sent for a field the user may not update counts as a change, except
+ * for a {@link Redactable} that is redacted, which is how an unchanged redacted field comes back. The values of fields
+ * the user may update are walked in turn, so nested objects are checked against their own fields' authorities.
+ * <p>
+ * Discarded changes are redacted, or for fields that are not {@link Redactable}, reset to {@code null}, or the default
+ * of a primitive, which also counts as unchanged. Values that are not loaded are never walked.
+ */
+final class RedactionUpdate {
+    private final RedactionContext context;
+    private final RedactionUpdateMode mode;
+    private final IdentityHashSet visited = new IdentityHashSet();
+    private final Deque<Object> pending = new ArrayDeque<>();
+    private final LoadStatePredicate loadStatePredicate;
+
+    RedactionUpdate(RedactionContext context, RedactionUpdateMode mode) {
+        this.context = context;
+        this.mode = mode;
+        this.loadStatePredicate = context.getOptions().getLoadStatePredicate();
+    }
+
+    void enforce(@Nullable Object root) {
+        push(root);
+
+        while (!pending.isEmpty()) {
+            var value = pending.pop();
+            if (!visited.add(value)) {
+                continue;
+            }
+
+            switch (RedactionValueKind.of(value.getClass())) {
+                case OBJECT -> enforceFields(value);
+                case COLLECTION -> ((Collection<?>) value).forEach(this::push);
+                case MAP -> ((Map<?, ?>) value).values().forEach(this::push);
+                case ARRAY -> {
+                    for (Object element : (Object[]) value) {
+                        push(element);
+                    }
+                }
+                case OPTIONAL -> push(((Optional<?>) value).orElse(null));
+                default -> {
+                    // leaves are never pushed
+                }
+            }
+        }
+    }
+
+    private void enforceFields(Object object) {
+        for (RedactionField field : RedactionPlan.forClass(object.getClass(), context.getOptions().getMetrics()).getFields()) {
+            var fieldValue = field.read(object);
+
+            if (field.getUpdateRule().isGranted(context, object)) {
+                push(fieldValue instanceof Redactable<?> redactable ? redactable.getValue() : fieldValue);
+
+                continue;
+            }
+
+            if (!isChanged(field, fieldValue)) {
+                continue;
+            }
+
+            if (mode == RedactionUpdateMode.REJECT) {
+                throw new RedactionUpdateDeniedException(field.getField().toGenericString(), field.getUpdateRule().toString());
+            }
+
+            if (field.isRedactable()) {
+                context.redact((Redactable<?>) fieldValue, field.getUpdateRule().getAuthorityId());
+            } else {
+                field.reset(object);
+                context.getOptions().getMetrics().fieldRedacted(field.getUpdateRule().getAuthorityId());
+            }
+        }
+    }
+
+    private static boolean isChanged(RedactionField field, @Nullable Object fieldValue) {
+        if (fieldValue == null || fieldValue instanceof Redactable<?> redactable && redactable.isRedacted()) {
+            return false;
+        }
+
+        return !field.getField().getType().isPrimitive() || !fieldValue.equals(field.defaultValue());
+    }
+
+    private void push(@Nullable Object value) {
+        if (value != null && RedactionValueKind.of(value.getClass()) != RedactionValueKind.LEAF && loadStatePredicate.isLoaded(value)) {
+            pending.push(value);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.danimaldan.redactor.applicator;
+
+/**
+ * Thrown when a payload changes a field whose update authority the current user is denied, and changes are
+ * {@link RedactionUpdateMode#REJECT rejected}.
+ */
+public class RedactionUpdateDeniedException extends RuntimeException {
+    private final String field;
+    private final String requiredAuthority;
+
+    public RedactionUpdateDeniedException(String field, String requiredAuthority) {
+        super("Update of field '" + field + "' requires authority '" + requiredAuthority + "'.");
+        this.field = field;
+        this.requiredAuthority = requiredAuthority;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public String getRequiredAuthority() {
+        return requiredAuthority;
+    }
+}
@@ -0,0 +1,16 @@
+package com.danimaldan.redactor.applicator;
+
+/**
+ * What to do with an incoming value for a field whose update authority the current user is denied.
+ */
+public enum RedactionUpdateMode {
+    /**
+     * Redact the incoming value, so it reads as unchanged, and accept the rest of the payload.
+     */
+    DISCARD,
+
+    /**
+     * Reject the whole payload with a {@link RedactionUpdateDeniedException}.
+     */
+    REJECT
+}
@@ -0,0 +1,59 @@
+package com.danimaldan.redactor.applicator;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * How a value is redacted, resolved once per class so dispatching a value is a single cached lookup instead of a chain
+ * of type checks.
+ */
+enum RedactionValueKind {
+    /**
+     * JDK types and primitive arrays, which never have {@link com.danimaldan.redactor.RedactAuthorize} fields.
+     */
+    LEAF,
+    /**
+     * Any other object, redacted through its {@link RedactionPlan} or {@link GeneratedRedactor}.
+     */
+    OBJECT,
+    COLLECTION,
+    MAP,
+    ARRAY,
+    OPTIONAL;
+
+    private static final ClassValue<RedactionValueKind> KINDS = new ClassValue<>() {
+        @Override
+        protected RedactionValueKind computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    static RedactionValueKind of(Class<?> type) {
+        return KINDS.get(type);
+    }
+
+    private static RedactionValueKind resolve(Class<?> type) {
+        if (type.isArray()) {
+            return type.getComponentType().isPrimitive() ? LEAF : ARRAY;
+        }
+
+        if (Collection.class.isAssignableFrom(type)) {
+            return COLLECTION;
+        }
+
+        if (Map.class.isAssignableFrom(type)) {
+            return MAP;
+        }
+
+        if (Optional.class == type) {
+            return OPTIONAL;
+        }
+
+        if (type.isPrimitive() || type.getName().startsWith("java.")) {
+            return LEAF;
+        }
+
+        return OBJECT;
+    }
+}
@@ -0,0 +1,32 @@
+package com.danimaldan.redactor.applicator;
+
+/**
+ * Immutable decisions for every authority interned when it was created, safe to share between the workers of a
+ * parallel redaction pass. Authorities interned afterwards are checked against the predicate directly, so the predicate
+ * must be thread-safe, e.g. an {@code AuthoritySnapshot}.
+ */
+class ResolvedAuthorityDecisions implements AuthorityDecisions {
+    private final HasAuthorityPredicate hasAuthorityPredicate;
+    private final int resolvedCount;
+    private final long[] granted;
+
+    ResolvedAuthorityDecisions(HasAuthorityPredicate hasAuthorityPredicate, int resolvedCount, long[] granted) {
+        this.hasAuthorityPredicate = hasAuthorityPredicate;
+        this.resolvedCount = resolvedCount;
+        this.granted = granted;
+    }
+
+    @Override
+    public boolean isGranted(int authorityId) {
+        if (authorityId >= resolvedCount) {
+            return hasAuthorityPredicate.hasAuthority(AuthorityRegistry.authorityOf(authorityId));
+        }
+
+        return (granted[authorityId >> 6] & (1L << authorityId)) != 0;
+    }
+
+    @Override
+    public AuthorityDecisions shareable() {
+        return this;
+    }
+}
@@ -0,0 +1,138 @@
+package com.danimaldan.redactor.autoconfigure;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.aop.Redact;
+import com.danimaldan.redactor.applicator.RedactionApplicatorFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compiles the redaction plans of the return types of all {@link Redact} methods, and of all classes with
+ * {@link RedactAuthorize} fields in the configured base packages, once every singleton has been created. The first
+ * requests after startup then do no reflection, and misconfigured fields fail the startup instead of a request.
+ */
+@Slf4j
+public class RedactionPlanInitializer implements SmartInitializingSingleton {
+    private final ConfigurableListableBeanFactory beanFactory;
+    private final List<String> basePackages;
+    private final ForkJoinPool forkJoinPool;
+
+    public RedactionPlanInitializer(ConfigurableListableBeanFactory beanFactory, List<String> basePackages, ForkJoinPool forkJoinPool) {
+        this.beanFactory = beanFactory;
+        this.basePackages = basePackages;
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        var startTime = System.nanoTime();
+
+        Set<ResolvableType> types = new LinkedHashSet<>();
+        collectRedactReturnTypes(types);
+        collectRedactAuthorizeClasses(types);
+
+        Set<Class<?>> compiled = ConcurrentHashMap.newKeySet();
+        List<String> errors = new ArrayList<>();
+
+        try {
+            forkJoinPool.submit(() -> types.parallelStream().forEach(type -> {
+                try {
+                    compiled.addAll(RedactionApplicatorFactory.precompile(type));
+                } catch (IllegalStateException e) {
+                    synchronized (errors) {
+                        errors.add(e.getMessage());
+                    }
+                }
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("Interrupted while precompiling redaction plans", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not precompile redaction plans", e.getCause());
+        }
+
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException(String.join("\n", errors));
+        }
+
+        log.info("Precompiled redaction plans for {} class(es) in {} ms", compiled.size(), (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    private void collectRedactReturnTypes(Collection<ResolvableType> types) {
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            var beanType = beanFactory.getType(beanName, false);
+            if (beanType == null) {
+                continue;
+            }
+
+            var userType = ClassUtils.getUserClass(beanType);
+
+            ReflectionUtils.doWithMethods(userType,
+                    method -> types.add(ResolvableType.forMethodReturnType(method, userType)),
+                    method -> AnnotatedElementUtils.hasAnnotation(method, Redact.class));
+        }
+    }
+
+    private void collectRedactAuthorizeClasses(Collection<ResolvableType> types) {
+        if (basePackages.isEmpty()) {
+            return;
+        }
+
+        var scanner = new RedactAuthorizeClassScanner();
+        var classLoader = beanFactory.getBeanClassLoader();
+
+        for (String basePackage : basePackages) {
+            for (var candidate : scanner.findCandidateComponents(basePackage)) {
+                var type = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+
+                if (hasRedactAuthorizeField(type)) {
+                    types.add(ResolvableType.forClass(type));
+                }
+            }
+        }
+    }
+
+    private static boolean hasRedactAuthorizeField(Class<?> type) {
+        var found = new boolean[1];
+
+        ReflectionUtils.doWithFields(type, field -> found[0] = true, field -> MergedAnnotations.from(field).isPresent(RedactAuthorize.class));
+
+        return found[0];
+    }
+
+    /**
+     * Finds every concrete top-level or static nested class, since field annotations are not visible to the metadata
+     * readers and can only be checked once a class is loaded.
+     */
+    private static class RedactAuthorizeClassScanner extends ClassPathScanningCandidateComponentProvider {
+        RedactAuthorizeClassScanner() {
+            super(false);
+            addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+        }
+
+        @Override
+        protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+            var metadata = beanDefinition.getMetadata();
+
+            return metadata.isIndependent() && metadata.isConcrete();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.danimaldan.redactor.autoconfigure;
+
+import com.danimaldan.redactor.aop.RedactUpdateAspect;
+import com.danimaldan.redactor.aop.RedactableAspect;
+import com.danimaldan.redactor.applicator.HasAuthorityPredicate;
+import com.danimaldan.redactor.applicator.LoadStatePredicate;
+import com.danimaldan.redactor.applicator.MicrometerRedactionMetrics;
+import com.danimaldan.redactor.applicator.RedactedViewCache;
+import com.danimaldan.redactor.applicator.RedactionMetrics;
+import com.danimaldan.redactor.applicator.RedactionOptions;
+import com.danimaldan.redactor.jackson.RedactorModule;
+import com.danimaldan.redactor.jpa.PersistenceLoadStatePredicate;
+import com.danimaldan.redactor.security.SecurityContextHasAuthorityPredicate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.persistence.spi.PersistenceProvider;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(RedactorProperties.class)
+public class RedactorAutoConfiguration {
+    public static final String REDACTION_FORK_JOIN_POOL_BEAN_NAME = "redactionForkJoinPool";
+
+    private static final HasAuthorityPredicate DENY_ALL_HAS_AUTHORITY_PREDICATE = authority -> false;
+
+    /**
+     * Options shared by the aspects, so redacting return values and enforcing updates see the same pool, view cache,
+     * metrics and load state.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public RedactionOptions redactionOptions(@Qualifier(REDACTION_FORK_JOIN_POOL_BEAN_NAME) ForkJoinPool redactionForkJoinPool,
+                                             ObjectProvider<RedactedViewCache> redactedViewCache,
+                                             ObjectProvider<RedactionMetrics> redactionMetrics,
+                                             ObjectProvider<LoadStatePredicate> loadStatePredicate) {
+        return RedactionOptions.builder()
+                .forkJoinPool(redactionForkJoinPool)
+                .viewCache(redactedViewCache.getIfAvailable())
+                .metrics(redactionMetrics.getIfAvailable(() -> RedactionMetrics.NOOP))
+                .loadStatePredicate(loadStatePredicate.getIfAvailable(() -> LoadStatePredicate.ALWAYS_LOADED))
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "redactor.aspect", name = "enabled", matchIfMissing = true)
+    public RedactableAspect redactableAspect(ObjectProvider<HasAuthorityPredicate> hasAuthorityPredicate, RedactionOptions redactionOptions) {
+        return new RedactableAspect(hasAuthorityPredicate.getIfAvailable(() -> DENY_ALL_HAS_AUTHORITY_PREDICATE), redactionOptions);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "redactor.aspect", name = "enabled", matchIfMissing = true)
+    public RedactUpdateAspect redactUpdateAspect(ObjectProvider<HasAuthorityPredicate> hasAuthorityPredicate, RedactionOptions redactionOptions) {
+        return new RedactUpdateAspect(hasAuthorityPredicate.getIfAvailable(() -> DENY_ALL_HAS_AUTHORITY_PREDICATE), redactionOptions);
+    }
+
+    /**
+     * Dedicated pool for parallel redaction, so large collections do not starve the common pool. Threads are only
+     * started once a collection reaches its {@code @Redact(parallelThreshold = ...)}.
+     */
+    @Bean(name = REDACTION_FORK_JOIN_POOL_BEAN_NAME, destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(name = REDACTION_FORK_JOIN_POOL_BEAN_NAME)
+    public ForkJoinPool redactionForkJoinPool(RedactorProperties properties) {
+        return new ForkJoinPool(properties.getParallel().getParallelism());
+    }
+
+    /**
+     * Compiles redaction plans at startup, see {@link RedactorProperties.Precompile}.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "redactor.precompile", name = "enabled", matchIfMissing = true)
+    public RedactionPlanInitializer redactionPlanInitializer(ConfigurableListableBeanFactory beanFactory,
+                                                             RedactorProperties properties,
+                                                             @Qualifier(REDACTION_FORK_JOIN_POOL_BEAN_NAME) ForkJoinPool redactionForkJoinPool) {
+        return new RedactionPlanInitializer(beanFactory, properties.getPrecompile().getBasePackages(), redactionForkJoinPool);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class MetricsConfiguration {
+        /**
+         * Publishes to the application's {@link MeterRegistry} if it has exactly one, and does nothing otherwise.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public RedactionMetrics redactionMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+            var registry = meterRegistry.getIfUnique();
+
+            return registry != null ? new MicrometerRedactionMetrics(registry) : RedactionMetrics.NOOP;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Caffeine.class)
+    @ConditionalOnProperty(prefix = "redactor.cache", name = "enabled", havingValue = "true")
+    static class CacheConfiguration {
+        /**
+         * Backs {@code @Redact(cache = true)}.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public RedactedViewCache redactedViewCache(RedactorProperties properties) {
+            return new RedactedViewCache(properties.getCache().getMaximumSize());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(ObjectMapper.class)
+    @ConditionalOnProperty(prefix = "redactor.jackson", name = "enabled", havingValue = "true")
+    static class JacksonConfiguration {
+        /**
+         * Picked up by Spring Boot's {@code ObjectMapper}, so responses are redacted while they are serialized.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public RedactorModule redactorModule(ObjectProvider<HasAuthorityPredicate> hasAuthorityPredicate, RedactorProperties properties) {
+            return new RedactorModule(hasAuthorityPredicate.getIfAvailable(() -> DENY_ALL_HAS_AUTHORITY_PREDICATE), properties.getJackson().isOmitRedacted());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(PersistenceProvider.class)
+    static class JpaConfiguration {
+        /**
+         * Keeps lazy associations and attributes of entities returned from {@code @Redact} methods from being loaded
+         * just to redact them, failing closed where they may hold values the caller is not authorized to view.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public LoadStatePredicate persistenceLoadStatePredicate() {
+            return new PersistenceLoadStatePredicate();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(SecurityContextHolder.class)
+    static class SecurityConfiguration {
+        @Bean
+        @ConditionalOnMissingBean(HasAuthorityPredicate.class)
+        public SecurityContextHasAuthorityPredicate securityContextHasAuthorityPredicate() {
+            return new SecurityContextHasAuthorityPredicate();
+        }
+    }
+}
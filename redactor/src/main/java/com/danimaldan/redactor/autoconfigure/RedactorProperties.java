@@ -0,0 +1,76 @@
+package com.danimaldan.redactor.autoconfigure;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "redactor")
+public class RedactorProperties {
+    private final Parallel parallel = new Parallel();
+    private final Aspect aspect = new Aspect();
+    private final Jackson jackson = new Jackson();
+    private final Cache cache = new Cache();
+    private final Precompile precompile = new Precompile();
+
+    @Data
+    public static class Parallel {
+        /**
+         * Number of threads in the pool used for {@code @Redact(parallelThreshold = ...)}. Defaults to the number of
+         * available processors.
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    @Data
+    public static class Aspect {
+        /**
+         * Redact the return values of {@code @Redact} methods in place.
+         */
+        private boolean enabled = true;
+    }
+
+    @Data
+    public static class Jackson {
+        /**
+         * Register a Jackson module that redacts {@code @RedactAuthorize} properties while serializing, without
+         * mutating the serialized objects.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Leave redacted properties out of the serialized output, instead of writing them as redacted values.
+         */
+        private boolean omitRedacted = false;
+    }
+
+    @Data
+    public static class Cache {
+        /**
+         * Create a cache of redacted views for {@code @Redact(cache = true)}. Requires Caffeine.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of source objects to keep redacted views of.
+         */
+        private long maximumSize = 10_000;
+    }
+
+    @Data
+    public static class Precompile {
+        /**
+         * Compile and validate redaction plans at startup, so the first requests do no reflection and misconfigured
+         * {@code @RedactAuthorize} fields fail the startup.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Packages to scan for classes with {@code @RedactAuthorize} fields, in addition to the return types of
+         * {@code @Redact} methods, which are always precompiled.
+         */
+        private List<String> basePackages = new ArrayList<>();
+    }
+}
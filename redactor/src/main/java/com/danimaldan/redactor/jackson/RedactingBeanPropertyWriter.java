@@ -0,0 +1,120 @@
+package com.danimaldan.redactor.jackson;
+
+import com.danimaldan.redactor.Redactable;
+import com.danimaldan.redactor.applicator.AuthorityRule;
+import com.danimaldan.redactor.applicator.HasAuthorityPredicate;
+import com.danimaldan.redactor.applicator.RedactionContext;
+import com.danimaldan.redactor.masking.MaskingStrategy;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import org.springframework.lang.Nullable;
+
+/**
+ * Writes a {@link com.danimaldan.redactor.RedactAuthorize} property as-is when the current user holds its authority,
+ * and as {@link Redactable#redacted()}, or its masked value, otherwise, without touching the serialized object.
+ */
+class RedactingBeanPropertyWriter extends BeanPropertyWriter {
+    private final AuthorityRule rule;
+    @Nullable
+    private final MaskingStrategy mask;
+    private final HasAuthorityPredicate hasAuthorityPredicate;
+    private final boolean omitRedacted;
+    private final boolean redactable;
+
+    RedactingBeanPropertyWriter(BeanPropertyWriter base, AuthorityRule rule, @Nullable MaskingStrategy mask, HasAuthorityPredicate hasAuthorityPredicate, boolean omitRedacted) {
+        super(base);
+
+        this.rule = rule;
+        this.mask = mask;
+        this.hasAuthorityPredicate = hasAuthorityPredicate;
+        this.omitRedacted = omitRedacted;
+        this.redactable = Redactable.class.isAssignableFrom(base.getType().getRawClass());
+    }
+
+    private RedactingBeanPropertyWriter(RedactingBeanPropertyWriter base, PropertyName name) {
+        super(base, name);
+
+        this.rule = base.rule;
+        this.mask = base.mask;
+        this.hasAuthorityPredicate = base.hasAuthorityPredicate;
+        this.omitRedacted = base.omitRedacted;
+        this.redactable = base.redactable;
+    }
+
+    @Override
+    protected BeanPropertyWriter _new(PropertyName newName) {
+        return new RedactingBeanPropertyWriter(this, newName);
+    }
+
+    @Override
+    public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+        if (isGranted(bean, gen, prov)) {
+            super.serializeAsField(bean, gen, prov);
+
+            return;
+        }
+
+        if (!omitRedacted) {
+            gen.writeFieldName(_name);
+            prov.defaultSerializeValue(redacted(bean), gen);
+        }
+    }
+
+    @Override
+    public void serializeAsElement(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+        if (isGranted(bean, gen, prov)) {
+            super.serializeAsElement(bean, gen, prov);
+
+            return;
+        }
+
+        prov.defaultSerializeValue(redacted(bean), gen);
+    }
+
+    private Redactable<?> redacted(Object bean) throws Exception {
+        if (mask == null) {
+            return Redactable.redacted();
+        }
+
+        var fieldValue = (Redactable<?>) get(bean);
+        if (fieldValue == null || fieldValue.getValue() == null) {
+            return Redactable.redacted();
+        }
+
+        if (fieldValue.isRedacted()) {
+            // already redacted, possibly masked, and never masked twice
+            return fieldValue;
+        }
+
+        return new Redactable<>(mask.mask(fieldValue.getValue()), true);
+    }
+
+    private boolean isGranted(Object bean, JsonGenerator gen, SerializerProvider prov) throws JsonMappingException {
+        if (rule.isGranted(redactionContext(prov), bean)) {
+            return true;
+        }
+
+        if (!redactable) {
+            throw JsonMappingException.from(gen, "@RedactAuthorize authorization is denied for property '" + getName() + "' of " + bean.getClass().getName() + ", but property is not Redactable.");
+        }
+
+        return false;
+    }
+
+    /**
+     * Decisions are memoized for the duration of a single write call, so each authority is checked at most once per
+     * serialized response.
+     */
+    private RedactionContext redactionContext(SerializerProvider prov) {
+        var context = (RedactionContext) prov.getAttribute(RedactionContext.class);
+        if (context == null) {
+            context = new RedactionContext(hasAuthorityPredicate.snapshot());
+            prov.setAttribute(RedactionContext.class, context);
+        }
+
+        return context;
+    }
+}
@@ -0,0 +1,87 @@
+package com.danimaldan.redactor.jackson;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.applicator.AuthorityRule;
+import com.danimaldan.redactor.applicator.HasAuthorityPredicate;
+import com.danimaldan.redactor.masking.MaskingStrategies;
+import com.danimaldan.redactor.masking.MaskingStrategy;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.lang.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the writer of every {@link RedactAuthorize} property with a {@link RedactingBeanPropertyWriter}. Runs once
+ * per serialized class, so authorities are interned and expressions compiled up front.
+ */
+@Slf4j
+class RedactionBeanSerializerModifier extends BeanSerializerModifier {
+    private final HasAuthorityPredicate hasAuthorityPredicate;
+    private final boolean omitRedacted;
+
+    RedactionBeanSerializerModifier(HasAuthorityPredicate hasAuthorityPredicate, boolean omitRedacted) {
+        this.hasAuthorityPredicate = hasAuthorityPredicate;
+        this.omitRedacted = omitRedacted;
+    }
+
+    @Override
+    public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+        Map<String, BeanPropertyDefinition> properties = new HashMap<>();
+        for (var property : beanDesc.findProperties()) {
+            properties.put(property.getName(), property);
+        }
+
+        for (int i = 0; i < beanProperties.size(); i++) {
+            var writer = beanProperties.get(i);
+
+            var annotation = findRedactAuthorize(writer, properties.get(writer.getName()));
+            if (!annotation.isPresent()) {
+                continue;
+            }
+
+            var rule = AuthorityRule.read(annotation, beanDesc.getBeanClass());
+            if (rule.isUnconditional()) {
+                // only nested properties require authorization, and those have writers of their own
+                continue;
+            }
+
+            beanProperties.set(i, new RedactingBeanPropertyWriter(writer, rule, mask(annotation), hasAuthorityPredicate, omitRedacted));
+        }
+
+        return beanProperties;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static MaskingStrategy mask(MergedAnnotation<RedactAuthorize> annotation) {
+        return MaskingStrategies.forClass((Class<? extends MaskingStrategy>) annotation.getClass("mask"));
+    }
+
+    /**
+     * Resolves {@link RedactAuthorize} on the property's field, where it is usually declared, or on its accessor.
+     * Jackson merges plain field annotations into the accessor's, but knows nothing of aliases and composed annotations.
+     */
+    private static MergedAnnotation<RedactAuthorize> findRedactAuthorize(BeanPropertyWriter writer, @Nullable BeanPropertyDefinition property) {
+        if (property != null && property.getField() != null) {
+            var annotation = MergedAnnotations.from(property.getField().getAnnotated()).get(RedactAuthorize.class);
+            if (annotation.isPresent()) {
+                return annotation;
+            }
+        }
+
+        if (writer.getMember() == null) {
+            return MergedAnnotation.missing();
+        }
+
+        return MergedAnnotations.from(writer.getMember().getAnnotated()).get(RedactAuthorize.class);
+    }
+}
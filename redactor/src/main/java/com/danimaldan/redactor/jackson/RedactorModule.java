@@ -0,0 +1,27 @@
+package com.danimaldan.redactor.jackson;
+
+import com.danimaldan.redactor.applicator.HasAuthorityPredicate;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Applies {@link com.danimaldan.redactor.RedactAuthorize} decisions while serializing, instead of redacting the
+ * returned objects in place. Nothing is mutated, so objects shared with caches stay intact, and the graph is only walked
+ * once, by Jackson itself.
+ * <p>
+ * Authorities are snapshotted once per {@code ObjectMapper} write call.
+ */
+public class RedactorModule extends SimpleModule {
+    public RedactorModule(HasAuthorityPredicate hasAuthorityPredicate) {
+        this(hasAuthorityPredicate, false);
+    }
+
+    /**
+     * @param omitRedacted leave redacted properties out of the output altogether, instead of writing them as
+     *                     {@code { "value": null, "redacted": true }}
+     */
+    public RedactorModule(HasAuthorityPredicate hasAuthorityPredicate, boolean omitRedacted) {
+        super(RedactorModule.class.getSimpleName());
+
+        setSerializerModifier(new RedactionBeanSerializerModifier(hasAuthorityPredicate, omitRedacted));
+    }
+}
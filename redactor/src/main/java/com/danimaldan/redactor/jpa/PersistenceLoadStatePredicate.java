@@ -0,0 +1,119 @@
+package com.danimaldan.redactor.jpa;
+
+import com.danimaldan.redactor.applicator.LoadStatePredicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import javax.persistence.Embeddable;
+import javax.persistence.Entity;
+import javax.persistence.spi.LoadState;
+import javax.persistence.spi.PersistenceProvider;
+import javax.persistence.spi.PersistenceProviderResolverHolder;
+import javax.persistence.spi.ProviderUtil;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Asks the JPA providers on the classpath, e.g. Hibernate, whether an entity proxy or a persistent collection has been
+ * initialized, or whether a lazy attribute of an entity has been loaded. Values no provider knows about, such as plain
+ * objects, are considered loaded. Only entities and embeddables are checked for unloaded attributes and associations.
+ * <p>
+ * The providers are resolved once, rather than on every check as {@code Persistence.getPersistenceUtil()} does.
+ * Initialized Hibernate proxies are unwrapped to their entity, when Hibernate is on the classpath, since JPA offers no
+ * way to do so.
+ */
+@Slf4j
+public class PersistenceLoadStatePredicate implements LoadStatePredicate {
+    private static final String HIBERNATE_PROXY = "org.hibernate.proxy.HibernateProxy";
+
+    private static final ClassValue<Boolean> PERSISTENT_TYPES = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            // proxies and enhanced classes extend the entity
+            var annotations = MergedAnnotations.from(type, MergedAnnotations.SearchStrategy.SUPERCLASS);
+
+            return annotations.isPresent(Entity.class) || annotations.isPresent(Embeddable.class);
+        }
+    };
+
+    private final ProviderUtil[] providerUtils;
+
+    @Nullable
+    private final Class<?> hibernateProxyType;
+    @Nullable
+    private final Method getHibernateLazyInitializer;
+    @Nullable
+    private final Method getImplementation;
+
+    public PersistenceLoadStatePredicate() {
+        this(PersistenceProviderResolverHolder.getPersistenceProviderResolver().getPersistenceProviders());
+    }
+
+    public PersistenceLoadStatePredicate(List<PersistenceProvider> providers) {
+        this.providerUtils = providers.stream()
+                .map(PersistenceProvider::getProviderUtil)
+                .toArray(ProviderUtil[]::new);
+
+        var classLoader = getClass().getClassLoader();
+        if (ClassUtils.isPresent(HIBERNATE_PROXY, classLoader)) {
+            this.hibernateProxyType = ClassUtils.resolveClassName(HIBERNATE_PROXY, classLoader);
+            this.getHibernateLazyInitializer = ReflectionUtils.findMethod(hibernateProxyType, "getHibernateLazyInitializer");
+            this.getImplementation = ReflectionUtils.findMethod(getHibernateLazyInitializer.getReturnType(), "getImplementation");
+        } else {
+            this.hibernateProxyType = null;
+            this.getHibernateLazyInitializer = null;
+            this.getImplementation = null;
+        }
+
+        log.debug("Checking load state of redacted values with {} JPA provider(s)", providerUtils.length);
+    }
+
+    @Override
+    public boolean isLoaded(Object value) {
+        for (ProviderUtil providerUtil : providerUtils) {
+            var loadState = providerUtil.isLoaded(value);
+            if (loadState != LoadState.UNKNOWN) {
+                return loadState == LoadState.LOADED;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks the attribute without reading it, which would load a lazy attribute of a bytecode enhanced entity.
+     */
+    @Override
+    public boolean isLoaded(Object owner, String attribute) {
+        for (ProviderUtil providerUtil : providerUtils) {
+            var loadState = providerUtil.isLoadedWithoutReference(owner, attribute);
+            if (loadState != LoadState.UNKNOWN) {
+                return loadState == LoadState.LOADED;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean mayHoldUnloaded(Class<?> type) {
+        return PERSISTENT_TYPES.get(type);
+    }
+
+    /**
+     * Unwraps an initialized Hibernate proxy. Must only be called for loaded values, since unwrapping initializes it.
+     */
+    @Override
+    public Object unwrap(Object value) {
+        if (hibernateProxyType == null || !hibernateProxyType.isInstance(value)) {
+            return value;
+        }
+
+        var lazyInitializer = ReflectionUtils.invokeMethod(getHibernateLazyInitializer, value);
+
+        return ReflectionUtils.invokeMethod(getImplementation, lazyInitializer);
+    }
+}
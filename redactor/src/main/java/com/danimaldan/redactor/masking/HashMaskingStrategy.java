@@ -0,0 +1,65 @@
+package com.danimaldan.redactor.masking;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Replaces values with the hex encoded SHA-256 hash of their string form, so redacted values can still be compared and
+ * joined on. Each thread reuses a digest of its own.
+ * <p>
+ * Hashes of values with few possible inputs, such as social security numbers, are easily reversed by trying them all.
+ * Subclass with a no-arg constructor passing a secret key to make the hash keyed.
+ */
+public class HashMaskingStrategy implements MaskingStrategy {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final ThreadLocal<MessageDigest> digests;
+    private final byte[] key;
+
+    public HashMaskingStrategy() {
+        this("SHA-256", new byte[0]);
+    }
+
+    protected HashMaskingStrategy(String algorithm, byte[] key) {
+        // fail when the strategy is resolved, not when the first value is masked
+        newDigest(algorithm);
+
+        this.digests = ThreadLocal.withInitial(() -> newDigest(algorithm));
+        this.key = key.clone();
+    }
+
+    private static MessageDigest newDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("Digest algorithm '" + algorithm + "' is not available. Details: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String mask(Object value) {
+        var hash = digest(value);
+        var hex = new char[hash.length * 2];
+
+        for (int i = 0; i < hash.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(hash[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX_DIGITS[hash[i] & 0xF];
+        }
+
+        return new String(hex);
+    }
+
+    /**
+     * Hashes the UTF-8 bytes of the value's string form, after the key.
+     */
+    protected byte[] digest(Object value) {
+        var digest = digests.get();
+
+        // digest() resets the digest, so it is ready for the next value on this thread
+        digest.update(key);
+        digest.update(value.toString().getBytes(StandardCharsets.UTF_8));
+
+        return digest.digest();
+    }
+}
@@ -0,0 +1,44 @@
+package com.danimaldan.redactor.masking;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.beans.BeanUtils;
+import org.springframework.lang.Nullable;
+
+/**
+ * Resolves the shared instance of a {@link MaskingStrategy} class, created on first use.
+ */
+@UtilityClass
+public class MaskingStrategies {
+    private static final ClassValue<MaskingStrategy> STRATEGIES = new ClassValue<>() {
+        @Override
+        protected MaskingStrategy computeValue(Class<?> type) {
+            return (MaskingStrategy) BeanUtils.instantiateClass(type);
+        }
+    };
+
+    /**
+     * @return the instance of the given strategy, or {@code null} for {@link NullMaskingStrategy}, which redacts to
+     * {@code null} without a strategy
+     */
+    @Nullable
+    public MaskingStrategy forClass(Class<? extends MaskingStrategy> type) {
+        if (type == NullMaskingStrategy.class) {
+            return null;
+        }
+
+        return STRATEGIES.get(type);
+    }
+
+    /**
+     * Type of the values the given strategy masks to, i.e. the return type its {@code mask} method declares, e.g.
+     * {@link String} for the strategies shipped here.
+     */
+    public Class<?> maskedType(MaskingStrategy strategy) {
+        try {
+            // picks the most specific return type over bridge methods
+            return strategy.getClass().getMethod("mask", Object.class).getReturnType();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Could not find mask method of " + strategy.getClass().getName() + ".", e);
+        }
+    }
+}
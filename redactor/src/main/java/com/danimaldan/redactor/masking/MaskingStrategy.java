@@ -0,0 +1,23 @@
+package com.danimaldan.redactor.masking;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Replaces the value of a redacted {@link com.danimaldan.redactor.Redactable} field, instead of nulling it, e.g. with a
+ * partial mask or a hash. Named by {@link com.danimaldan.redactor.RedactAuthorize#mask()}, and instantiated once per
+ * class, so implementations must be thread-safe and have a no-arg constructor.
+ * <p>
+ * The result must be assignable to the field's value type, which is checked against the return type the strategy's
+ * {@code mask} method declares when the field's redaction plan is built. The strategies shipped here declare
+ * {@link String}, so they can only mask {@code Redactable<String>}, {@code Redactable<CharSequence>} or
+ * {@code Redactable<Object>} fields.
+ */
+@FunctionalInterface
+public interface MaskingStrategy {
+    /**
+     * @param value the value being redacted, never {@code null}
+     * @return the value to expose instead
+     */
+    @Nullable
+    Object mask(Object value);
+}
@@ -0,0 +1,15 @@
+package com.danimaldan.redactor.masking;
+
+/**
+ * Redacts values to {@code null}, the default. Never instantiated, fields naming it are redacted with
+ * {@link com.danimaldan.redactor.Redactable#redact()}.
+ */
+public final class NullMaskingStrategy implements MaskingStrategy {
+    private NullMaskingStrategy() {
+    }
+
+    @Override
+    public Object mask(Object value) {
+        return null;
+    }
+}
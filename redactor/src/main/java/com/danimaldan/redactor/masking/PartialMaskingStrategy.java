@@ -0,0 +1,53 @@
+package com.danimaldan.redactor.masking;
+
+/**
+ * Masks every letter and digit but the last few, keeping separators, e.g. {@code 123-45-6789} as {@code ***-**-6789}.
+ * At most half of the letters and digits are kept, so short values are never shown in full. Builds the result in a
+ * single pre-sized {@code char[]}.
+ * <p>
+ * Subclass with a no-arg constructor to keep a different number of characters, or to mask with another character.
+ */
+public class PartialMaskingStrategy implements MaskingStrategy {
+    private final int visibleCount;
+    private final char maskChar;
+
+    public PartialMaskingStrategy() {
+        this(4, '*');
+    }
+
+    protected PartialMaskingStrategy(int visibleCount, char maskChar) {
+        this.visibleCount = visibleCount;
+        this.maskChar = maskChar;
+    }
+
+    @Override
+    public String mask(Object value) {
+        var chars = value instanceof CharSequence charSequence ? charSequence : value.toString();
+        var length = chars.length();
+
+        var maskableCount = 0;
+        for (int i = 0; i < length; i++) {
+            if (Character.isLetterOrDigit(chars.charAt(i))) {
+                maskableCount++;
+            }
+        }
+
+        var visible = Math.min(visibleCount, maskableCount / 2);
+        var masked = new char[length];
+
+        for (int i = length - 1; i >= 0; i--) {
+            var c = chars.charAt(i);
+
+            if (!Character.isLetterOrDigit(c)) {
+                masked[i] = c;
+            } else if (visible > 0) {
+                masked[i] = c;
+                visible--;
+            } else {
+                masked[i] = maskChar;
+            }
+        }
+
+        return new String(masked);
+    }
+}
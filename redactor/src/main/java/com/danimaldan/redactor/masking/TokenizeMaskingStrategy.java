@@ -0,0 +1,42 @@
+package com.danimaldan.redactor.masking;
+
+/**
+ * Replaces every letter and digit with another one derived from the hash of the whole value, keeping separators and
+ * case, e.g. {@code 123-45-6789} as {@code 804-17-3352}. The token has the format of the original value and is the
+ * same every time, but does not reveal it. Builds the result in a single pre-sized {@code char[]}.
+ * <p>
+ * Like {@link HashMaskingStrategy}, subclass with a key when the values have few possible inputs.
+ */
+public class TokenizeMaskingStrategy extends HashMaskingStrategy {
+    public TokenizeMaskingStrategy() {
+        super();
+    }
+
+    protected TokenizeMaskingStrategy(String algorithm, byte[] key) {
+        super(algorithm, key);
+    }
+
+    @Override
+    public String mask(Object value) {
+        var chars = value instanceof CharSequence charSequence ? charSequence : value.toString();
+        var hash = digest(chars);
+        var token = new char[chars.length()];
+
+        for (int i = 0; i < token.length; i++) {
+            var c = chars.charAt(i);
+            var b = hash[i % hash.length] & 0xFF;
+
+            if (Character.isDigit(c)) {
+                token[i] = (char) ('0' + b % 10);
+            } else if (Character.isUpperCase(c)) {
+                token[i] = (char) ('A' + b % 26);
+            } else if (Character.isLetter(c)) {
+                token[i] = (char) ('a' + b % 26);
+            } else {
+                token[i] = c;
+            }
+        }
+
+        return new String(token);
+    }
+}
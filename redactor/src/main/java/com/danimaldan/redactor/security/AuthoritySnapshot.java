@@ -0,0 +1,48 @@
+package com.danimaldan.redactor.security;
+
+import com.danimaldan.redactor.applicator.HasAuthorityPredicate;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Immutable set of authority strings captured from an {@code Authentication}. Safe to share between threads.
+ */
+public final class AuthoritySnapshot implements HasAuthorityPredicate {
+    public static final AuthoritySnapshot EMPTY = new AuthoritySnapshot(Set.of(), null);
+
+    private final Set<String> authorities;
+    private final Object principal;
+
+    private AuthoritySnapshot(Set<String> authorities, Object principal) {
+        this.authorities = authorities;
+        this.principal = principal;
+    }
+
+    public static AuthoritySnapshot of(Collection<String> authorities) {
+        return of(authorities, null);
+    }
+
+    public static AuthoritySnapshot of(Collection<String> authorities, Object principal) {
+        return authorities.isEmpty() && principal == null ? EMPTY : new AuthoritySnapshot(Set.copyOf(authorities), principal);
+    }
+
+    @Override
+    public boolean hasAuthority(String authority) {
+        return authorities.contains(authority);
+    }
+
+    @Override
+    public HasAuthorityPredicate snapshot() {
+        return this;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return principal;
+    }
+
+    public Set<String> getAuthorities() {
+        return authorities;
+    }
+}
@@ -0,0 +1,67 @@
+package com.danimaldan.redactor.security;
+
+import com.danimaldan.redactor.applicator.HasAuthorityPredicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+
+/**
+ * Checks authorities against the {@link Authentication} of the current {@link SecurityContextHolder}.
+ * <p>
+ * {@link #snapshot()} copies the authorities into an {@link AuthoritySnapshot} on the calling thread, so it must be
+ * called on a thread the security context has been propagated to, e.g. the request thread, or an {@code @Async}
+ * executor wrapped by {@code DelegatingSecurityContextExecutor}. The snapshot itself holds no thread-local state.
+ */
+@Slf4j
+public class SecurityContextHasAuthorityPredicate implements HasAuthorityPredicate {
+    /**
+     * Scans the current authorities for a single check, without copying them. Use {@link #snapshot()} for repeated
+     * checks.
+     */
+    @Override
+    public boolean hasAuthority(String authority) {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication.getAuthorities() == null) {
+            return false;
+        }
+
+        for (GrantedAuthority grantedAuthority : authentication.getAuthorities()) {
+            if (authority.equals(grantedAuthority.getAuthority())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public AuthoritySnapshot snapshot() {
+        return snapshotOf(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Override
+    public Object getPrincipal() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        return authentication != null ? authentication.getPrincipal() : null;
+    }
+
+    public static AuthoritySnapshot snapshotOf(@Nullable Authentication authentication) {
+        if (authentication == null || authentication.getAuthorities() == null) {
+            return AuthoritySnapshot.EMPTY;
+        }
+
+        var authorities = new ArrayList<String>(authentication.getAuthorities().size());
+        for (GrantedAuthority grantedAuthority : authentication.getAuthorities()) {
+            if (grantedAuthority.getAuthority() != null) {
+                authorities.add(grantedAuthority.getAuthority());
+            }
+        }
+
+        return AuthoritySnapshot.of(authorities, authentication.getPrincipal());
+    }
+}
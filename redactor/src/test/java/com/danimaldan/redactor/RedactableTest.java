@@ -0,0 +1,71 @@
+package com.danimaldan.redactor;
+
+import com.danimaldan.redactor.applicator.RedactionApplicatorFactory;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedactableTest {
+    @Test
+    void redacted_isSharedAndRedacted() {
+        Redactable<String> password = Redactable.redacted();
+
+        assertSame(password, Redactable.<Integer>redacted());
+        assertNull(password.getValue());
+        assertTrue(password.isRedacted());
+    }
+
+    @Test
+    void redacted_cannotBeGivenAValue() {
+        Redactable<String> password = Redactable.redacted();
+
+        password.redact();
+
+        assertThrows(UnsupportedOperationException.class, () -> password.setValue("bananas"));
+        assertNull(password.getValue());
+        assertTrue(password.isRedacted());
+    }
+
+    @Test
+    void mask_replacesTheValueOnce() {
+        var ssn = Redactable.of("123-45-6789");
+
+        ssn.mask(value -> "***-**-" + value.substring(7));
+        ssn.mask(value -> "masked again");
+
+        assertEquals("***-**-6789", ssn.getValue());
+        assertTrue(ssn.isRedacted());
+    }
+
+    @Test
+    void mask_leavesSharedRedactedInstanceAlone() {
+        Redactable<String> password = Redactable.redacted();
+
+        password.mask(value -> "bananas");
+
+        assertNull(password.getValue());
+        assertTrue(password.isRedacted());
+    }
+
+    @Test
+    void redact_acceptsSharedRedactedFields() {
+        var user = new User("bananas", Redactable.redacted());
+        var other = new User("eggs", Redactable.redacted());
+
+        RedactionApplicatorFactory.create(List.of(user, other), authority -> false).redact();
+
+        assertTrue(user.getPassword().isRedacted());
+        assertSame(user.getPassword(), other.getPassword());
+    }
+
+    @Value
+    private static class User {
+        String username;
+
+        @RedactAuthorize("password:read")
+        Redactable<String> password;
+    }
+}
@@ -0,0 +1,126 @@
+package com.danimaldan.redactor.aop;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import com.danimaldan.redactor.applicator.RedactionOptions;
+import com.danimaldan.redactor.applicator.RedactionUpdateDeniedException;
+import com.danimaldan.redactor.applicator.RedactionUpdateMode;
+import lombok.Data;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedactUpdateAspectTest {
+    private final EmployeeService employeeService = proxy(new EmployeeService(), Set.of("salary:read"));
+
+    @Test
+    void performAround_discardsChangesWithoutUpdateAuthority() {
+        var employee = new Employee("john", Redactable.of(100.0), null);
+
+        var updated = employeeService.update(employee);
+
+        assertEquals("john", updated.getName());
+        assertTrue(updated.getSalary().isRedacted());
+    }
+
+    @Test
+    void performAround_rejectsChangesWithoutUpdateAuthority() {
+        var employee = new Employee("john", Redactable.of(100.0), null);
+
+        var e = assertThrows(RedactionUpdateDeniedException.class, () -> employeeService.replace(employee));
+        assertEquals("salary:write", e.getRequiredAuthority());
+    }
+
+    @Test
+    void performAround_acceptsRedactedValuesAsUnchanged() {
+        var employee = new Employee("john", Redactable.redacted(), null);
+
+        assertSame(employee, employeeService.replace(employee));
+    }
+
+    @Test
+    void performAround_checksNestedObjectsAgainstTheirOwnFields() {
+        var report = new Employee("jane", Redactable.of(200.0), null);
+        var manager = new Employee("john", Redactable.redacted(), List.of(report));
+
+        var e = assertThrows(RedactionUpdateDeniedException.class, () -> employeeService.replace(manager));
+        assertTrue(e.getField().contains("salary"));
+    }
+
+    @Test
+    void performAround_keepsChangesWithUpdateAuthority() {
+        var service = proxy(new EmployeeService(), Set.of("salary:read", "salary:write"));
+        var employee = new Employee("john", Redactable.of(100.0), null);
+
+        var updated = service.replace(employee);
+
+        assertEquals(100.0, updated.getSalary().getValue());
+    }
+
+    @Test
+    void performAround_discardsChangesToFieldsThatAreNotRedactable() {
+        var account = new Account();
+        account.setStatus("closed");
+
+        assertSame(account, employeeService.updateAccount(account));
+        assertNull(account.getStatus());
+    }
+
+    @Test
+    void performAround_neverWalksValuesThatAreNotLoaded() {
+        var report = new Employee("jane", Redactable.of(200.0), null);
+        var manager = new Employee("john", Redactable.redacted(), List.of(report));
+        var options = RedactionOptions.builder()
+                .loadStatePredicate(value -> value != manager.getReports())
+                .build();
+
+        assertSame(manager, proxy(new EmployeeService(), Set.of("salary:read"), options).replace(manager));
+    }
+
+    private static EmployeeService proxy(EmployeeService target, Set<String> authorities) {
+        return proxy(target, authorities, RedactionOptions.DEFAULT);
+    }
+
+    private static EmployeeService proxy(EmployeeService target, Set<String> authorities, RedactionOptions options) {
+        var proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(new RedactUpdateAspect(authorities::contains, options));
+
+        return proxyFactory.getProxy();
+    }
+
+    static class EmployeeService {
+        public Employee update(@RedactUpdate Employee employee) {
+            return employee;
+        }
+
+        public Employee replace(@RedactUpdate(RedactionUpdateMode.REJECT) Employee employee) {
+            return employee;
+        }
+
+        public Account updateAccount(@RedactUpdate Account account) {
+            return account;
+        }
+    }
+
+    @Value
+    static class Employee {
+        String name;
+
+        @RedactAuthorize(value = "salary:read", updateAuthority = "salary:write")
+        Redactable<Double> salary;
+
+        @RedactAuthorize
+        List<Employee> reports;
+    }
+
+    @Data
+    static class Account {
+        @RedactAuthorize(updateAuthority = "account:status:write")
+        private String status;
+    }
+}
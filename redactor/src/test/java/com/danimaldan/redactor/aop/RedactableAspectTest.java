@@ -0,0 +1,183 @@
+package com.danimaldan.redactor.aop;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import com.danimaldan.redactor.security.SecurityContextHasAuthorityPredicate;
+import lombok.Value;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedactableAspectTest {
+    private final UserService userService = proxy(new UserService());
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void performAround_redactsReturnValue() {
+        var user = userService.getUser();
+
+        assertTrue(user.getPassword().isRedacted());
+    }
+
+    @Test
+    void performAround_redactsCompletableFutureResultWithCallersAuthorities() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("john", null, "password:read"));
+
+        var future = userService.getUserAsync();
+        SecurityContextHolder.clearContext();
+
+        var user = future.get();
+        assertEquals("foster", user.getPassword().getValue());
+        assertFalse(user.getPassword().isRedacted());
+    }
+
+    @Test
+    void performAround_redactsMonoOnSubscription() {
+        var mono = userService.getUserMono();
+
+        // authorities are captured when subscribing, not when the method returns
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("john", null, "password:read"));
+
+        var user = mono.block();
+        assertNotNull(user);
+        assertFalse(user.getPassword().isRedacted());
+    }
+
+    @Test
+    void performAround_redactsFluxElementByElement() {
+        var emitted = new AtomicInteger();
+
+        var users = userService.getUsers(emitted)
+                .doOnNext(user -> {
+                    // each element is redacted before the next one is even produced
+                    assertTrue(user.getPassword().isRedacted());
+                    assertEquals(emitted.get(), Integer.parseInt(user.getUsername()));
+                })
+                .collectList()
+                .block();
+
+        assertNotNull(users);
+        assertEquals(3, users.size());
+    }
+
+    @Test
+    void performAround_prefersReactiveSecurityContext() {
+        var authentication = new TestingAuthenticationToken("john", null, "password:read");
+
+        var user = userService.getUserMono()
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication))
+                .block();
+
+        assertNotNull(user);
+        assertFalse(user.getPassword().isRedacted());
+    }
+
+    @Test
+    void performAround_redactsStreamLazily() {
+        try (var users = userService.streamUsers()) {
+            var redacted = users.collect(Collectors.toList());
+
+            assertEquals(3, redacted.size());
+            redacted.forEach(user -> assertTrue(user.getPassword().isRedacted()));
+        }
+    }
+
+    @Test
+    void performAround_redactsIteratorLazily() {
+        var users = userService.iterateUsers();
+
+        assertTrue(users.next().getPassword().isRedacted());
+    }
+
+    @Test
+    void performAround_returnsRedactedCopyLeavingCachedValueIntact() {
+        var target = new UserService();
+
+        var redacted = proxy(target).getCachedUser();
+
+        assertNotSame(target.cachedUser, redacted);
+        assertTrue(redacted.getPassword().isRedacted());
+        assertEquals("foster", target.cachedUser.getPassword().getValue());
+    }
+
+    private static UserService proxy(UserService target) {
+        var proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(new RedactableAspect(new SecurityContextHasAuthorityPredicate()));
+
+        return proxyFactory.getProxy();
+    }
+
+    static class UserService {
+        private final User cachedUser = newUser("cached");
+
+        @Redact(copy = true)
+        public User getCachedUser() {
+            return cachedUser;
+        }
+
+        @Redact
+        public User getUser() {
+            return newUser("bananas");
+        }
+
+        @Redact
+        public CompletableFuture<User> getUserAsync() {
+            return CompletableFuture.supplyAsync(() -> newUser("bananas"));
+        }
+
+        @Redact
+        public Mono<User> getUserMono() {
+            return Mono.fromSupplier(() -> newUser("bananas"));
+        }
+
+        @Redact
+        public Flux<User> getUsers(AtomicInteger emitted) {
+            return Flux.fromIterable(List.of(1, 2, 3))
+                    .map(i -> {
+                        emitted.set(i);
+
+                        return newUser(String.valueOf(i));
+                    });
+        }
+
+        @Redact
+        public Stream<User> streamUsers() {
+            return Stream.of("1", "2", "3").map(UserService::newUser);
+        }
+
+        @Redact
+        public Iterator<User> iterateUsers() {
+            return List.of(newUser("1")).iterator();
+        }
+
+        private static User newUser(String username) {
+            return new User(username, Redactable.of("foster"));
+        }
+    }
+
+    @Value
+    static class User {
+        String username;
+
+        @RedactAuthorize("password:read")
+        Redactable<String> password;
+    }
+}
@@ -0,0 +1,152 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import com.danimaldan.redactor.security.AuthoritySnapshot;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthorityRuleTest {
+    @Test
+    void redact_grantsAnyOfWithOneAuthority() {
+        var employee = newEmployee("john");
+
+        RedactionApplicatorFactory.create(employee, "manager:read"::equals).redact();
+
+        assertFalse(employee.getSalary().isRedacted());
+        assertTrue(employee.getSsn().isRedacted());
+    }
+
+    @Test
+    void redact_requiresAllOfAuthorities() {
+        var employee = newEmployee("john");
+        var authorities = Set.of("hr:read", "pii:read");
+
+        RedactionApplicatorFactory.create(employee, authorities::contains).redact();
+
+        assertFalse(employee.getSalary().isRedacted());
+        assertTrue(employee.getSsn().isRedacted());
+
+        var other = newEmployee("jane");
+        var allAuthorities = Set.of("hr:read", "pii:read", "ssn:read");
+        RedactionApplicatorFactory.create(other, allAuthorities::contains).redact();
+
+        assertFalse(other.getSsn().isRedacted());
+    }
+
+    @Test
+    void redact_evaluatesExpressionsAgainstOwnerAndPrincipal() {
+        var john = newEmployee("john");
+        var jane = newEmployee("jane");
+
+        RedactionApplicatorFactory.create(List.of(john, jane), AuthoritySnapshot.of(List.of(), "john")).redact();
+
+        assertFalse(john.getHomeAddress().isRedacted());
+        assertTrue(jane.getHomeAddress().isRedacted());
+    }
+
+    @Test
+    void redact_evaluatesExpressionsWithAuthorityFunctions() {
+        var jane = newEmployee("jane");
+
+        RedactionApplicatorFactory.create(jane, AuthoritySnapshot.of(List.of("hr:read"), "john")).redact();
+
+        assertFalse(jane.getHomeAddress().isRedacted());
+    }
+
+    @Test
+    void redact_compilesExpressionsOnPublicOwnersOnceEveryPartWasEvaluated() {
+        // john's address is decided by the owner alone, jane's by the authority functions too
+        RedactionApplicatorFactory.create(List.of(newEmployee("john"), newEmployee("jane")), AuthoritySnapshot.of(List.of(), "john")).redact();
+
+        assertTrue(readRule(Employee.class, "homeAddress").compileExpression());
+    }
+
+    @Test
+    void redact_neverCompilesExpressionsOnNonPublicOwners() {
+        var contractor = new Contractor("john", Redactable.of(100.0));
+
+        RedactionApplicatorFactory.create(contractor, AuthoritySnapshot.of(List.of(), "john")).redact();
+
+        assertFalse(contractor.getRate().isRedacted());
+        assertFalse(readRule(Contractor.class, "rate").compileExpression());
+    }
+
+    @Test
+    void viewCache_neverCachesViewsDecidedByExpressions() {
+        var cache = new RedactedViewCache(100);
+        var employee = newEmployee("john");
+
+        var metrics = new RedactedViewCacheTest.ViewCacheMetrics();
+        var options = RedactionOptions.builder().metrics(metrics).build();
+
+        var johnsView = cache.get(employee, new RedactionContext(AuthoritySnapshot.of(List.of(), "john"), options));
+        var janesView = cache.get(employee, new RedactionContext(AuthoritySnapshot.of(List.of(), "jane"), options));
+
+        assertFalse(johnsView.getHomeAddress().isRedacted());
+        assertTrue(janesView.getHomeAddress().isRedacted());
+        assertEquals(0, metrics.hits);
+    }
+
+    @Test
+    void redact_reportsExpressionsEvaluatedByParallelWorkers() {
+        var employees = IntStream.range(0, 2_000).mapToObj(i -> newEmployee("employee" + i)).toList();
+        var forkJoinPool = new ForkJoinPool(4);
+
+        try {
+            var options = RedactionOptions.builder()
+                    .parallelThreshold(100)
+                    .forkJoinPool(forkJoinPool)
+                    .build();
+            var context = new RedactionContext(AuthoritySnapshot.of(List.of(), "john"), options);
+
+            RedactionApplicatorFactory.create(employees, context).redact();
+
+            assertTrue(context.isExpressionEvaluated());
+            assertTrue(employees.get(0).getHomeAddress().isRedacted());
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    private static AuthorityRule readRule(Class<?> type, String fieldName) {
+        return RedactionPlan.forClass(type).getFields().stream()
+                .filter(field -> field.getName().equals(fieldName))
+                .findFirst()
+                .orElseThrow()
+                .getReadRule();
+    }
+
+    private static Employee newEmployee(String username) {
+        return new Employee(username, Redactable.of(100_000.0), Redactable.of("123-45-6789"), Redactable.of("1 Main St"));
+    }
+
+    @Value
+    public static class Employee {
+        String username;
+
+        @RedactAuthorize(anyOf = {"hr:read", "manager:read"})
+        Redactable<Double> salary;
+
+        @RedactAuthorize(value = "ssn:read", allOf = {"hr:read", "pii:read"})
+        Redactable<String> ssn;
+
+        @RedactAuthorize(expression = "(owner.username == principal) or hasAnyAuthority('hr:read', 'admin')")
+        Redactable<String> homeAddress;
+    }
+
+    @Value
+    static class Contractor {
+        String username;
+
+        @RedactAuthorize(expression = "owner.username == principal")
+        Redactable<Double> rate;
+    }
+}
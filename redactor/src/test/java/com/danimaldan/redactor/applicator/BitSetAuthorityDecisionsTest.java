@@ -0,0 +1,93 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitSetAuthorityDecisionsTest {
+    @Test
+    void isGranted_asksPredicateOncePerAuthority() {
+        List<String> checkedAuthorities = new ArrayList<>();
+        var decisions = new BitSetAuthorityDecisions(authority -> {
+            checkedAuthorities.add(authority);
+
+            return authority.equals("a:read");
+        });
+
+        var a = AuthorityRegistry.intern("a:read");
+        var b = AuthorityRegistry.intern("b:read");
+
+        assertTrue(decisions.isGranted(a));
+        assertFalse(decisions.isGranted(b));
+        assertTrue(decisions.isGranted(a));
+        assertFalse(decisions.isGranted(b));
+
+        assertEquals(List.of("a:read", "b:read"), checkedAuthorities);
+    }
+
+    @Test
+    void isGranted_handlesAuthoritiesInternedAfterCreation() {
+        var decisions = new BitSetAuthorityDecisions(authority -> true);
+
+        var ids = IntStream.range(0, 130)
+                .mapToObj(i -> AuthorityRegistry.intern("late:" + UUID.randomUUID()))
+                .collect(Collectors.toList());
+
+        ids.forEach(id -> assertTrue(decisions.isGranted(id)));
+    }
+
+    @Test
+    void redact_checksEachAuthorityOncePerPass() {
+        List<String> checkedAuthorities = new ArrayList<>();
+        var teams = IntStream.range(0, 100)
+                .mapToObj(i -> new Team(new User("user" + i, Redactable.of("secret" + i))))
+                .collect(Collectors.toList());
+
+        RedactionApplicatorFactory.create(teams, authority -> {
+            checkedAuthorities.add(authority);
+
+            return false;
+        }).redact();
+
+        assertEquals(List.of("password:read"), checkedAuthorities);
+        teams.forEach(team -> assertTrue(team.getLead().getPassword().isRedacted()));
+    }
+
+    @Test
+    void redact_usesProvidedAuthorityDecisionsFactory() {
+        List<String> checkedAuthorities = new ArrayList<>();
+        var teams = List.of(new Team(new User("a", Redactable.of("a"))), new Team(new User("b", Redactable.of("b"))));
+
+        RedactionApplicatorFactory.create(teams, authority -> {
+            checkedAuthorities.add(authority);
+
+            return false;
+        }, AuthorityDecisionsFactory.uncached()).redact();
+
+        // once per class to find that anything reachable can be redacted, then once per user
+        assertEquals(List.of("password:read", "password:read", "password:read", "password:read"), checkedAuthorities);
+    }
+
+    @Value
+    private static class User {
+        String username;
+
+        @RedactAuthorize("password:read")
+        Redactable<String> password;
+    }
+
+    @Value
+    private static class Team {
+        @RedactAuthorize
+        User lead;
+    }
+}
@@ -0,0 +1,74 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicrometerRedactionMetricsTest {
+    @Test
+    void redact_publishesTraversalMeasurements() {
+        var registry = new SimpleMeterRegistry();
+        var options = RedactionOptions.builder()
+                .metrics(new MicrometerRedactionMetrics(registry))
+                .build();
+        var team = new Team(List.of(new User("a", Redactable.of("a")), new User("b", Redactable.of("b"))));
+
+        RedactionApplicatorFactory.create(team, authority -> false, options).redact();
+
+        assertEquals(3, registry.get("redactor.objects.visited").counter().count());
+        assertEquals(3, registry.get("redactor.fields.visited").counter().count());
+        assertEquals(2, registry.get("redactor.fields.redacted").tag("authority", "metrics:password:read").counter().count());
+        assertEquals(2, registry.get("redactor.container.size").summary().totalAmount());
+        // one check to find the users can be redacted at all, memoized afterwards
+        assertEquals(1, registry.get("redactor.authority.checks").counter().count());
+        assertEquals(2, registry.get("redactor.plan.cache").tag("result", "miss").counter().count());
+        assertEquals(0, registry.get("redactor.plan.cache").tag("result", "hit").counter().count());
+
+        RedactionApplicatorFactory.create(team, authority -> false, options).redact();
+
+        assertEquals(2, registry.get("redactor.plan.cache").tag("result", "miss").counter().count());
+        assertEquals(2, registry.get("redactor.plan.cache").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void get_publishesViewCacheLookups() {
+        var registry = new SimpleMeterRegistry();
+        var options = RedactionOptions.builder()
+                .metrics(new MicrometerRedactionMetrics(registry))
+                .build();
+        var cache = new RedactedViewCache(100);
+        var session = new Session(Redactable.of("token"));
+
+        cache.get(session, new RedactionContext(authority -> false, options));
+        cache.get(session, new RedactionContext(authority -> false, options));
+
+        assertEquals(1, registry.get("redactor.view.cache").tag("result", "hit").counter().count());
+        assertEquals(1, registry.get("redactor.view.cache").tag("result", "miss").counter().count());
+    }
+
+    @Value
+    private static class User {
+        String username;
+
+        @RedactAuthorize("metrics:password:read")
+        Redactable<String> password;
+    }
+
+    @Value
+    private static class Session {
+        @RedactAuthorize("metrics:token:read")
+        Redactable<String> token;
+    }
+
+    @Value
+    private static class Team {
+        @RedactAuthorize
+        List<User> members;
+    }
+}
@@ -0,0 +1,81 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PropertyAccessorFactoryTest {
+    private static final HasAuthorityPredicate NOTHING_PASSES_HAS_AUTHORITY_PREDICATE = authority -> false;
+
+    @Test
+    void lambdaMetafactory_readsLombokGetter() throws Exception {
+        var user = new User("bananas", Redactable.of("foster"), true);
+
+        var accessor = PropertyAccessorFactory.defaultFactory().create(User.class.getMethod("getPassword"));
+
+        assertSame(user.getPassword(), accessor.get(user));
+        // implemented directly by the spun class, not wrapped by the fallback
+        assertTrue(accessor.getClass().getName().startsWith(PropertyAccessorFactoryTest.class.getName() + "$User$$Lambda"), accessor.getClass().getName());
+    }
+
+    @Test
+    void lambdaMetafactory_boxesPrimitiveGetter() throws Exception {
+        var user = new User("bananas", Redactable.of("foster"), true);
+
+        var accessor = PropertyAccessorFactory.defaultFactory().create(User.class.getMethod("isActive"));
+
+        assertEquals(Boolean.TRUE, accessor.get(user));
+    }
+
+    @Test
+    void methodHandle_readsLombokGetter() throws Exception {
+        var user = new User("bananas", Redactable.of("foster"), true);
+
+        var accessor = new MethodHandlePropertyAccessorFactory().create(User.class.getMethod("getPassword"));
+
+        assertSame(user.getPassword(), accessor.get(user));
+    }
+
+    @Test
+    void methodHandle_propagatesGetterException() throws Exception {
+        var accessor = new MethodHandlePropertyAccessorFactory().create(Broken.class.getMethod("getSecret"));
+
+        assertThrows(UnsupportedOperationException.class, () -> accessor.get(new Broken()));
+    }
+
+    @Test
+    void redact_readsRecordAccessor() {
+        var account = new Account("bananas", Redactable.of("foster"));
+
+        new RedactionObjectApplicator(account, NOTHING_PASSES_HAS_AUTHORITY_PREDICATE).redact();
+
+        assertEquals("bananas", account.username());
+        assertNull(account.password().getValue());
+        assertTrue(account.password().isRedacted());
+    }
+
+    @Value
+    private static class User {
+        String username;
+
+        @RedactAuthorize("password:read")
+        Redactable<String> password;
+
+        boolean active;
+    }
+
+    private record Account(String username, @RedactAuthorize("password:read") Redactable<String> password) {
+    }
+
+    private static class Broken {
+        @RedactAuthorize("secret:read")
+        Redactable<String> secret;
+
+        public Redactable<String> getSecret() {
+            throw new UnsupportedOperationException("nope");
+        }
+    }
+}
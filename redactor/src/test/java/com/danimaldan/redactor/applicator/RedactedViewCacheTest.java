@@ -0,0 +1,245 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedactedViewCacheTest {
+    private final ViewCacheMetrics metrics = new ViewCacheMetrics();
+
+    @Test
+    void get_sharesViewsBetweenCallersWithTheSameAuthorities() {
+        var cache = new RedactedViewCache(100);
+        var user = new User("bananas", Redactable.of("foster"), Redactable.of("123"));
+
+        var first = cache.get(user, context(authority -> false));
+        var second = cache.get(user, context(authority -> false));
+
+        assertSame(first, second);
+        assertTrue(first.getPassword().isRedacted());
+        assertFalse(user.getPassword().isRedacted());
+        assertEquals(1, metrics.hits);
+        assertEquals(1, metrics.misses);
+    }
+
+    @Test
+    void get_separatesViewsByAuthoritiesReachableFromTheObject() {
+        var cache = new RedactedViewCache(100);
+        var user = new User("bananas", Redactable.of("foster"), Redactable.of("123"));
+
+        var passwordReader = cache.get(user, context("password:read"::equals));
+        var pinReader = cache.get(user, context("pin:read"::equals));
+        // authorities nothing in User requires do not split the cache
+        var passwordAndOtherReader = cache.get(user, context(authority -> authority.equals("password:read") || authority.equals("other:read")));
+
+        assertNotSame(passwordReader, pinReader);
+        assertSame(passwordReader, passwordAndOtherReader);
+        assertFalse(passwordReader.getPassword().isRedacted());
+        assertTrue(passwordReader.getPin().isRedacted());
+        assertTrue(pinReader.getPassword().isRedacted());
+        assertFalse(pinReader.getPin().isRedacted());
+    }
+
+    @Test
+    void get_returnsSourceWhenNothingIsRedacted() {
+        var cache = new RedactedViewCache(100);
+        var user = new User("bananas", Redactable.of("foster"), Redactable.of("123"));
+
+        assertSame(user, cache.get(user, context(authority -> true)));
+        assertSame(user, cache.get(user, context(authority -> true)));
+        assertEquals(1, metrics.hits);
+    }
+
+    @Test
+    void get_redactsAgainWhenVersionChanges() {
+        var version = new AtomicInteger();
+        var cache = new RedactedViewCache(100, source -> version.get());
+        var users = List.of(new User("bananas", Redactable.of("foster"), Redactable.of("123")));
+
+        var first = cache.get(users, context(authority -> false));
+        version.incrementAndGet();
+        var second = cache.get(users, context(authority -> false));
+
+        assertNotSame(first, second);
+        assertEquals(2, metrics.misses);
+    }
+
+    @Test
+    void redact_usesViewCacheWhenCopying() {
+        var cache = new RedactedViewCache(100);
+        var options = RedactionOptions.builder().copyOnRedact(true).viewCache(cache).build();
+        var user = new User("bananas", Redactable.of("foster"), Redactable.of("123"));
+
+        var first = RedactionApplicatorFactory.redact(user, new RedactionContext(authority -> false, options));
+        var second = RedactionApplicatorFactory.redact(user, new RedactionContext(authority -> false, options));
+
+        assertSame(first, second);
+        assertEquals(1, cache.estimatedSize());
+    }
+
+    @Test
+    void get_neverPinsSourceReachableFromItsView() throws Exception {
+        var cache = new RedactedViewCache(100);
+        var parent = Parent.withChild();
+
+        var first = cache.get(parent, context(authority -> false));
+        var second = cache.get(parent, context(authority -> false));
+
+        // the view shares the child, whose back-reference leads to the source
+        assertTrue(first.getSecret().isRedacted());
+        assertSame(parent, first.getChildren().get(0).getParent());
+        assertNotSame(first, second);
+        assertEquals(0, metrics.hits);
+
+        var source = new WeakReference<>(parent);
+        parent = null;
+        first = null;
+        second = null;
+
+        assertCollected(source);
+    }
+
+    @Test
+    void get_cachesViewsSharingValuesThatCannotReachTheSource() {
+        var cache = new RedactedViewCache(100);
+        var folder = new Folder(Redactable.of("secret"), List.of(new Document("draft")));
+
+        var first = cache.get(folder, context(authority -> false));
+        var second = cache.get(folder, context(authority -> false));
+
+        assertSame(folder.getDocuments(), first.getDocuments());
+        assertSame(first, second);
+        assertEquals(1, metrics.hits);
+    }
+
+    @Test
+    void get_cachesViewsCopyingCyclesThroughRedactAuthorizeFields() throws Exception {
+        var cache = new RedactedViewCache(100);
+        var customer = new Customer();
+        customer.setSecret(Redactable.of("secret"));
+        var order = new Order();
+        order.setCustomer(customer);
+        customer.setOrders(new ArrayList<>(List.of(order)));
+
+        var view = cache.get(customer, context(authority -> false));
+
+        assertSame(view, view.getOrders().get(0).getCustomer());
+        assertSame(view, cache.get(customer, context(authority -> false)));
+
+        var source = new WeakReference<>(customer);
+        customer = null;
+        order = null;
+        view = null;
+
+        assertCollected(source);
+    }
+
+    private RedactionContext context(HasAuthorityPredicate hasAuthorityPredicate) {
+        return new RedactionContext(hasAuthorityPredicate, RedactionOptions.builder().metrics(metrics).build());
+    }
+
+    private static void assertCollected(WeakReference<?> reference) throws InterruptedException {
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(reference.get());
+    }
+
+    @Value
+    private static class User {
+        String username;
+
+        @RedactAuthorize("password:read")
+        Redactable<String> password;
+
+        @RedactAuthorize("pin:read")
+        Redactable<String> pin;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    private static class Parent {
+        @RedactAuthorize("secret:read")
+        private Redactable<String> secret;
+
+        @RedactAuthorize
+        private List<Child> children;
+
+        static Parent withChild() {
+            var parent = new Parent();
+            parent.setSecret(Redactable.of("secret"));
+            parent.setChildren(List.of(new Child("child", parent)));
+
+            return parent;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Child {
+        private final String name;
+        private final Parent parent;
+    }
+
+    @Value
+    private static class Folder {
+        @RedactAuthorize("secret:read")
+        Redactable<String> secret;
+
+        @RedactAuthorize
+        List<Document> documents;
+    }
+
+    @Value
+    private static class Document {
+        String title;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    private static class Customer {
+        @RedactAuthorize("customer:secret:read")
+        private Redactable<String> secret;
+
+        @RedactAuthorize
+        private List<Order> orders;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    private static class Order {
+        @RedactAuthorize
+        private Customer customer;
+    }
+
+    static class ViewCacheMetrics implements RedactionMetrics {
+        int hits;
+        int misses;
+
+        @Override
+        public void viewCacheLookedUp(boolean hit) {
+            if (hit) {
+                hits++;
+            } else {
+                misses++;
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedactingSpliteratorTest {
+    private static final HasAuthorityPredicate NOTHING_PASSES_HAS_AUTHORITY_PREDICATE = authority -> false;
+
+    @Test
+    void wrap_redactsStreamElementsLazilyAsTheyAreConsumed() {
+        var produced = new AtomicInteger();
+        var source = Stream.generate(() -> new User("user" + produced.incrementAndGet(), Redactable.of("secret")));
+
+        var redacted = RedactionApplicatorFactory.wrap(source, new RedactionContext(NOTHING_PASSES_HAS_AUTHORITY_PREDICATE))
+                .limit(3)
+                .collect(Collectors.toList());
+
+        assertEquals(3, redacted.size());
+        assertEquals(List.of("user1", "user2", "user3"), redacted.stream().map(User::getUsername).collect(Collectors.toList()));
+        redacted.forEach(user -> assertTrue(user.getPassword().isRedacted()));
+    }
+
+    @Test
+    void wrap_preservesCharacteristicsAndClosesSource() {
+        var closed = new AtomicBoolean();
+        var users = new TreeSet<User>((a, b) -> a.getUsername().compareTo(b.getUsername()));
+        users.add(new User("b", Redactable.of("secret")));
+        users.add(new User("a", Redactable.of("secret")));
+
+        try (var stream = RedactionApplicatorFactory.wrap(users.stream().onClose(() -> closed.set(true)), new RedactionContext(NOTHING_PASSES_HAS_AUTHORITY_PREDICATE))) {
+            var spliterator = stream.spliterator();
+
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.ORDERED | Spliterator.SIZED));
+            assertEquals(2, spliterator.getExactSizeIfKnown());
+            assertNotNull(spliterator.getComparator());
+        }
+
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void wrap_redactsParallelStream() {
+        var users = IntStream.range(0, 10_000)
+                .mapToObj(i -> new User("user" + i, Redactable.of("secret")))
+                .collect(Collectors.toList());
+
+        var count = RedactionApplicatorFactory.wrap(users.parallelStream(), new RedactionContext(NOTHING_PASSES_HAS_AUTHORITY_PREDICATE))
+                .filter(user -> user.getPassword().isRedacted())
+                .count();
+
+        assertEquals(users.size(), count);
+    }
+
+    @Test
+    void wrap_redactsIteratorElementsAsTheyAreConsumed() {
+        var users = List.of(new User("a", Redactable.of("secret")), new User("b", Redactable.of("secret")));
+
+        var iterator = RedactionApplicatorFactory.wrap(users.iterator(), new RedactionContext(NOTHING_PASSES_HAS_AUTHORITY_PREDICATE));
+
+        assertTrue(iterator.next().getPassword().isRedacted());
+        assertFalse(users.get(1).getPassword().isRedacted());
+        assertTrue(iterator.next().getPassword().isRedacted());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Value
+    private static class User {
+        String username;
+
+        @RedactAuthorize("password:read")
+        Redactable<String> password;
+    }
+}
@@ -0,0 +1,150 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedactionApplicatorFactoryTest {
+    private static final HasAuthorityPredicate NOTHING_PASSES_HAS_AUTHORITY_PREDICATE = authority -> false;
+
+    @Test
+    void create_redactsMapValues() {
+        var users = Map.of("bananas", new User("bananas", Redactable.of("foster")), "eggs", new User("eggs", Redactable.of("benedict")));
+
+        RedactionApplicatorFactory.create(users, NOTHING_PASSES_HAS_AUTHORITY_PREDICATE).redact();
+
+        users.values().forEach(user -> {
+            assertNull(user.getPassword().getValue());
+            assertTrue(user.getPassword().isRedacted());
+        });
+    }
+
+    @Test
+    void create_redactsLargeMapResolvingEachAuthorityOnce() {
+        var users = new HashMap<Integer, User>();
+        for (int i = 0; i < 100_000; i++) {
+            users.put(i, new User("user" + i, Redactable.of("password" + i)));
+        }
+        var lookups = new AtomicInteger();
+
+        RedactionApplicatorFactory.create(users, authority -> {
+            lookups.incrementAndGet();
+
+            return false;
+        }).redact();
+
+        assertEquals(1, lookups.get());
+        users.values().forEach(user -> assertTrue(user.getPassword().isRedacted()));
+    }
+
+    @Test
+    void create_redactsMapKeysOnlyWhenEnabled() {
+        var key = new User("bananas", Redactable.of("foster"));
+        var users = Map.of(key, "bananas");
+
+        RedactionApplicatorFactory.create(users, NOTHING_PASSES_HAS_AUTHORITY_PREDICATE).redact();
+        assertFalse(key.getPassword().isRedacted());
+
+        var options = RedactionOptions.builder().redactMapKeys(true).build();
+        RedactionApplicatorFactory.create(users, NOTHING_PASSES_HAS_AUTHORITY_PREDICATE, options).redact();
+        assertTrue(key.getPassword().isRedacted());
+    }
+
+    @Test
+    void create_redactsObjectArrayElements() {
+        var users = new User[]{new User("bananas", Redactable.of("foster")), null, new User("eggs", Redactable.of("benedict"))};
+
+        RedactionApplicatorFactory.create(users, NOTHING_PASSES_HAS_AUTHORITY_PREDICATE).redact();
+
+        assertTrue(users[0].getPassword().isRedacted());
+        assertNull(users[1]);
+        assertTrue(users[2].getPassword().isRedacted());
+    }
+
+    @Test
+    void create_redactsOptionalValue() {
+        var user = new User("bananas", Redactable.of("foster"));
+
+        RedactionApplicatorFactory.create(Optional.of(user), NOTHING_PASSES_HAS_AUTHORITY_PREDICATE).redact();
+        RedactionApplicatorFactory.create(Optional.empty(), NOTHING_PASSES_HAS_AUTHORITY_PREDICATE).redact();
+
+        assertTrue(user.getPassword().isRedacted());
+    }
+
+    @Test
+    void create_redactsContainersNestedInFields() {
+        var byName = new User("bananas", Redactable.of("foster"));
+        var inArray = new User("eggs", Redactable.of("benedict"));
+        var inOptional = new User("toast", Redactable.of("french"));
+        var inNestedList = new User("waffles", Redactable.of("belgian"));
+        var team = new Team(Map.of("bananas", byName), new User[]{inArray}, Optional.of(inOptional), List.of(List.of(inNestedList)));
+
+        RedactionApplicatorFactory.create(team, NOTHING_PASSES_HAS_AUTHORITY_PREDICATE).redact();
+
+        assertTrue(byName.getPassword().isRedacted());
+        assertTrue(inArray.getPassword().isRedacted());
+        assertTrue(inOptional.getPassword().isRedacted());
+        assertTrue(inNestedList.getPassword().isRedacted());
+    }
+
+    @Test
+    void create_ignoresJdkValuesAndPrimitiveArrays() {
+        assertInstanceOf(RedactionNullApplicator.class, RedactionApplicatorFactory.create("bananas"));
+        assertInstanceOf(RedactionNullApplicator.class, RedactionApplicatorFactory.create(new int[]{1, 2, 3}));
+    }
+
+    @Test
+    void precompile_compilesClassesReachableThroughGenerics() {
+        var compiled = RedactionApplicatorFactory.precompile(ResolvableType.forClassWithGenerics(Optional.class, Team.class));
+
+        assertEquals(Set.of(Team.class, User.class), compiled);
+    }
+
+    @Test
+    void precompile_rejectsFieldsThatCannotBeRedacted() {
+        var type = ResolvableType.forClassWithGenerics(List.class, Secretive.class);
+
+        var e = assertThrows(IllegalStateException.class, () -> RedactionApplicatorFactory.precompile(type));
+        assertTrue(e.getMessage().contains("secret:read"));
+    }
+
+    @Value
+    private static class User {
+        String username;
+
+        @RedactAuthorize("password:read")
+        Redactable<String> password;
+    }
+
+    @Value
+    private static class Team {
+        @RedactAuthorize
+        Map<String, User> usersByName;
+
+        @RedactAuthorize
+        User[] userArray;
+
+        @RedactAuthorize
+        Optional<User> captain;
+
+        @RedactAuthorize
+        List<List<User>> squads;
+    }
+
+    @Value
+    private static class Secretive {
+        @RedactAuthorize("secret:read")
+        String secret;
+    }
+}
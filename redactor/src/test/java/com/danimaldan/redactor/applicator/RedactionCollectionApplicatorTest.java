@@ -2,12 +2,20 @@ package com.danimaldan.redactor.applicator;
 
 import com.danimaldan.redactor.RedactAuthorize;
 import com.danimaldan.redactor.Redactable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.Value;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.util.CollectionUtils;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -113,6 +121,75 @@ class RedactionCollectionApplicatorTest {
         assertTrue(contractRedacted.getSalary().isRedacted());
     }
 
+    @Test
+    void redact_appliesEachElementsOwnClassToPolymorphicList() {
+        var dog = new Dog("Rex", Redactable.of("chip-123"));
+        var cat = new Cat("Tom", Redactable.of(9));
+        var animals = Arrays.asList(dog, null, cat, new Dog("Fido", Redactable.of("chip-456")));
+
+        var applicator = new RedactionCollectionApplicator<>(animals, NOTHING_PASSES_HAS_AUTHORITY_PREDICATE);
+
+        applicator.redact();
+
+        assertEquals("Rex", dog.getName());
+        assertNull(dog.getMicrochip().getValue());
+        assertTrue(dog.getMicrochip().isRedacted());
+
+        assertEquals("Tom", cat.getName());
+        assertNull(cat.getLives().getValue());
+        assertTrue(cat.getLives().isRedacted());
+
+        assertTrue(((Dog) animals.get(3)).getMicrochip().isRedacted());
+    }
+
+    @Test
+    void redact_readsEachFieldOfEachElementOnce() {
+        var counter = new AtomicInteger();
+        var accounts = List.of(new CountingAccount(counter), new CountingAccount(counter), new CountingAccount(counter));
+
+        new RedactionCollectionApplicator<>(accounts, "account:pin:read"::equals).redact();
+
+        // 3 elements with 2 @RedactAuthorize fields each
+        assertEquals(6, counter.get());
+        accounts.forEach(account -> {
+            assertFalse(account.getPin().isRedacted());
+            assertTrue(account.getBalance().isRedacted());
+        });
+    }
+
+    @Test
+    void redact_splitsLargeCollectionsAcrossForkJoinPool() {
+        var employees = IntStream.range(0, 50_000)
+                .mapToObj(i -> new Employee("employee" + i, List.of(new EmploymentContract("ACME", Redactable.of((double) i)))))
+                .collect(Collectors.toList());
+        var workerThreads = ConcurrentHashMap.<String>newKeySet();
+        var forkJoinPool = new ForkJoinPool(4);
+
+        try {
+            var options = RedactionOptions.builder()
+                    .parallelThreshold(10_000)
+                    .forkJoinPool(forkJoinPool)
+                    .build();
+
+            new RedactionCollectionApplicator<>(employees, new RedactionContext(authority -> {
+                workerThreads.add(Thread.currentThread().getName());
+
+                return false;
+            }, options)).redact();
+        } finally {
+            forkJoinPool.shutdown();
+        }
+
+        employees.forEach(employee -> {
+            var contract = CollectionUtils.getOnlyElement(employee.getContracts());
+            assertNull(contract.getSalary().getValue());
+            assertTrue(contract.getSalary().isRedacted());
+        });
+
+        // authorities are resolved once on the calling thread and shared read-only with the workers
+        assertEquals(Set.of(Thread.currentThread().getName()), workerThreads);
+    }
+
     @Value
     private static class User {
         String username;
@@ -125,6 +202,60 @@ class RedactionCollectionApplicatorTest {
         }
     }
 
+    @Getter
+    @AllArgsConstructor
+    private abstract static class Animal {
+        private final String name;
+    }
+
+    @Getter
+    private static class Dog extends Animal {
+        @RedactAuthorize("dog:microchip:read")
+        private final Redactable<String> microchip;
+
+        Dog(String name, Redactable<String> microchip) {
+            super(name);
+            this.microchip = microchip;
+        }
+    }
+
+    @Getter
+    private static class Cat extends Animal {
+        @RedactAuthorize("cat:lives:read")
+        private final Redactable<Integer> lives;
+
+        Cat(String name, Redactable<Integer> lives) {
+            super(name);
+            this.lives = lives;
+        }
+    }
+
+    private static class CountingAccount {
+        private final AtomicInteger counter;
+
+        @RedactAuthorize("account:pin:read")
+        private final Redactable<String> pin = Redactable.of("1234");
+
+        @RedactAuthorize("account:balance:read")
+        private final Redactable<Double> balance = Redactable.of(42.0);
+
+        CountingAccount(AtomicInteger counter) {
+            this.counter = counter;
+        }
+
+        public Redactable<String> getPin() {
+            counter.incrementAndGet();
+
+            return pin;
+        }
+
+        public Redactable<Double> getBalance() {
+            counter.incrementAndGet();
+
+            return balance;
+        }
+    }
+
     @Value
     private static class EmploymentContract {
         String company;
@@ -0,0 +1,297 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedactionCopyTest {
+    private static final HasAuthorityPredicate NOTHING_PASSES_HAS_AUTHORITY_PREDICATE = authority -> false;
+    private static final HasAuthorityPredicate ALL_BUT_SALARY_HAS_AUTHORITY_PREDICATE = authority -> !"salary:read".equals(authority);
+
+    @Test
+    void copy_copiesOnlyThePathToRedactedFields() {
+        var address = new Address("Main St");
+        var redactedContract = new Contract("ACME", Redactable.of(100_000.0));
+        var untouchedContract = new Contract("Initech", Redactable.redacted());
+        var employee = new Employee("John Doe", address, List.of(redactedContract, untouchedContract));
+
+        var copy = copy(employee, ALL_BUT_SALARY_HAS_AUTHORITY_PREDICATE);
+
+        assertNotSame(employee, copy);
+        assertSame(address, copy.getAddress());
+        assertSame(untouchedContract, copy.getContracts().get(1));
+        assertNotSame(redactedContract, copy.getContracts().get(0));
+        assertTrue(copy.getContracts().get(0).getSalary().isRedacted());
+        assertEquals("ACME", copy.getContracts().get(0).getCompany());
+
+        // the original is never mutated
+        assertEquals(100_000.0, redactedContract.getSalary().getValue());
+        assertFalse(redactedContract.getSalary().isRedacted());
+    }
+
+    @Test
+    void copy_returnsSameInstanceWhenNothingIsRedacted() {
+        var employee = new Employee("John Doe", new Address("Main St"), List.of(new Contract("ACME", Redactable.of(1.0))));
+
+        assertSame(employee, copy(employee, authority -> true));
+    }
+
+    @Test
+    void copy_copiesRecordsAndMaps() {
+        var badge = new Badge("1234", Redactable.of("pin"));
+        var badges = Map.of("main", badge);
+
+        var copy = copy(badges, NOTHING_PASSES_HAS_AUTHORITY_PREDICATE);
+
+        assertNotSame(badges, copy);
+        assertEquals("1234", copy.get("main").number());
+        assertTrue(copy.get("main").pin().isRedacted());
+        assertFalse(badge.pin().isRedacted());
+    }
+
+    @Test
+    void copy_preservesCyclesThroughNoArgConstructors() {
+        var customer = new Customer();
+        customer.setSecret(Redactable.of("secret"));
+        var order = new Order();
+        order.setCustomer(customer);
+        customer.setOrders(new ArrayList<>(List.of(order)));
+
+        var copy = copy(order, authority -> !"customer:secret:read".equals(authority));
+
+        assertNotSame(order, copy);
+        assertTrue(copy.getCustomer().getSecret().isRedacted());
+        assertSame(copy, copy.getCustomer().getOrders().get(0));
+        assertEquals("secret", customer.getSecret().getValue());
+    }
+
+    @Test
+    void copy_keepsContainerClassesAndUnmodifiability() {
+        var contract = new Contract("ACME", Redactable.of(1.0));
+        var portfolio = new Portfolio(
+                new LinkedList<>(List.of(contract)),
+                new ArrayDeque<>(List.of(contract)),
+                new EnumMap<>(Map.of(TimeUnit.DAYS, contract)),
+                List.of(contract)
+        );
+
+        var copy = copy(portfolio, NOTHING_PASSES_HAS_AUTHORITY_PREDICATE);
+
+        assertNotSame(portfolio.getLinked(), copy.getLinked());
+        assertTrue(copy.getLinked().getFirst().getSalary().isRedacted());
+        assertTrue(copy.getQueued().getFirst().getSalary().isRedacted());
+        assertTrue(copy.getByUnit().get(TimeUnit.DAYS).getSalary().isRedacted());
+        assertTrue(copy.getFixed().get(0).getSalary().isRedacted());
+        assertThrows(UnsupportedOperationException.class, () -> copy.getFixed().add(contract));
+    }
+
+    @Test
+    void copy_keepsOtherJdkContainersModifiable() {
+        var contract = new Contract("ACME", Redactable.of(1.0));
+        var contracts = new ArrayList<>(List.of(contract, contract));
+        var holder = new ContractViews(Arrays.asList(contract), Collections.synchronizedList(new ArrayList<>(List.of(contract))), contracts.subList(0, 1));
+
+        var copy = copy(holder, NOTHING_PASSES_HAS_AUTHORITY_PREDICATE);
+
+        assertTrue(copy.getFixedSize().get(0).getSalary().isRedacted());
+        assertTrue(copy.getShared().get(0).getSalary().isRedacted());
+        assertTrue(copy.getSlice().get(0).getSalary().isRedacted());
+        assertDoesNotThrow(() -> copy.getFixedSize().add(contract));
+        assertDoesNotThrow(() -> copy.getShared().add(contract));
+        assertDoesNotThrow(() -> copy.getSlice().add(contract));
+    }
+
+    @Test
+    void copy_copiesInitializedProxiesFromTheirTarget() {
+        var account = new Account();
+        account.setName("bananas");
+        account.setSecret(Redactable.of("foster"));
+        var statement = new Statement(new AccountProxy(account));
+        var options = RedactionOptions.builder()
+                .loadStatePredicate(new LoadStatePredicate() {
+                    @Override
+                    public boolean isLoaded(Object value) {
+                        return true;
+                    }
+
+                    @Override
+                    public Object unwrap(Object value) {
+                        return value instanceof AccountProxy proxy ? proxy.target : value;
+                    }
+                })
+                .build();
+
+        var copy = RedactionApplicatorFactory.copy(statement, new RedactionContext(NOTHING_PASSES_HAS_AUTHORITY_PREDICATE, options));
+
+        assertSame(Account.class, copy.getAccount().getClass());
+        assertEquals("bananas", copy.getAccount().getName());
+        assertTrue(copy.getAccount().getSecret().isRedacted());
+        assertFalse(account.getSecret().isRedacted());
+    }
+
+    @Test
+    void copy_redactsMapKeysWhenConfigured() {
+        var key = new Contract("ACME", Redactable.of(1.0));
+        var contracts = new HashMap<Contract, String>(Map.of(key, "current"));
+        var options = RedactionOptions.builder().redactMapKeys(true).build();
+
+        var copy = RedactionApplicatorFactory.copy(contracts, new RedactionContext(NOTHING_PASSES_HAS_AUTHORITY_PREDICATE, options));
+
+        assertInstanceOf(HashMap.class, copy);
+        assertTrue(copy.keySet().iterator().next().getSalary().isRedacted());
+        assertFalse(key.getSalary().isRedacted());
+
+        // keys are shared unless configured, just as they are left alone when redacting in place
+        assertSame(contracts, copy(contracts, NOTHING_PASSES_HAS_AUTHORITY_PREDICATE));
+    }
+
+    @Test
+    void copy_failsForFieldsThatCannotHoldACopy() {
+        var ledger = new Ledger(new ContractList(List.of(new Contract("ACME", Redactable.of(1.0)))));
+
+        assertThrows(IllegalArgumentException.class, () -> copy(ledger, NOTHING_PASSES_HAS_AUTHORITY_PREDICATE));
+    }
+
+    private static <T> T copy(T object, HasAuthorityPredicate hasAuthorityPredicate) {
+        return RedactionApplicatorFactory.copy(object, new RedactionContext(hasAuthorityPredicate));
+    }
+
+    @Value
+    private static class Address {
+        String street;
+    }
+
+    @Value
+    private static class Contract {
+        String company;
+
+        @RedactAuthorize("salary:read")
+        Redactable<Double> salary;
+    }
+
+    @Value
+    private static class Employee {
+        String name;
+
+        @RedactAuthorize
+        Address address;
+
+        @RedactAuthorize
+        List<Contract> contracts;
+    }
+
+    @Value
+    private static class Portfolio {
+        @RedactAuthorize
+        LinkedList<Contract> linked;
+
+        @RedactAuthorize
+        ArrayDeque<Contract> queued;
+
+        @RedactAuthorize
+        EnumMap<TimeUnit, Contract> byUnit;
+
+        @RedactAuthorize
+        List<Contract> fixed;
+    }
+
+    @Value
+    private static class ContractViews {
+        @RedactAuthorize
+        List<Contract> fixedSize;
+
+        @RedactAuthorize
+        List<Contract> shared;
+
+        @RedactAuthorize
+        List<Contract> slice;
+    }
+
+    @Value
+    private static class Statement {
+        @RedactAuthorize
+        Account account;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    private static class Account {
+        private String name;
+
+        @RedactAuthorize("account:secret:read")
+        private Redactable<String> secret;
+    }
+
+    /**
+     * Delegates to its target like an initialized Hibernate proxy, leaving its own copy of the fields empty.
+     */
+    private static class AccountProxy extends Account {
+        private final Account target;
+
+        AccountProxy(Account target) {
+            this.target = target;
+        }
+
+        @Override
+        public String getName() {
+            return target.getName();
+        }
+
+        @Override
+        public Redactable<String> getSecret() {
+            return target.getSecret();
+        }
+    }
+
+    @Value
+    private static class Ledger {
+        @RedactAuthorize
+        ContractList contracts;
+    }
+
+    private static class ContractList extends ArrayList<Contract> {
+        ContractList(List<Contract> contracts) {
+            super(contracts);
+        }
+    }
+
+    private record Badge(String number, @RedactAuthorize("badge:pin:read") Redactable<String> pin) {
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    private static class Customer {
+        @RedactAuthorize("customer:secret:read")
+        private Redactable<String> secret;
+
+        @RedactAuthorize
+        private List<Order> orders;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    private static class Order {
+        @RedactAuthorize
+        private Customer customer;
+    }
+}
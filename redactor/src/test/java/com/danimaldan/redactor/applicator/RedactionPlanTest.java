@@ -0,0 +1,129 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.AliasFor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedactionPlanTest {
+    @Test
+    void forClass_returnsCachedPlan() {
+        assertSame(RedactionPlan.forClass(Manager.class), RedactionPlan.forClass(Manager.class));
+    }
+
+    @Test
+    void forClass_includesInheritedAnnotatedFieldsOnly() {
+        var plan = RedactionPlan.forClass(Manager.class);
+
+        var fieldNames = plan.getFields().stream()
+                .map(field -> field.getField().getName())
+                .collect(Collectors.toSet());
+
+        assertEquals(Set.of("password", "budget", "team"), fieldNames);
+    }
+
+    @Test
+    void forClass_resolvesAuthorityAndRedactableFlag() {
+        var plan = RedactionPlan.forClass(Manager.class);
+
+        var budget = plan.getFields().stream()
+                .filter(field -> field.getField().getName().equals("budget"))
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals("manager:budget:read", budget.getRequiredAuthority());
+        assertTrue(budget.requiresAuthority());
+        assertTrue(budget.isRedactable());
+
+        var team = plan.getFields().stream()
+                .filter(field -> field.getField().getName().equals("team"))
+                .findFirst()
+                .orElseThrow();
+
+        assertFalse(team.requiresAuthority());
+        assertFalse(team.isRedactable());
+    }
+
+    @Test
+    void read_invokesGetter() {
+        var manager = new Manager();
+
+        var budget = RedactionPlan.forClass(Manager.class).getFields().stream()
+                .filter(field -> field.getField().getName().equals("budget"))
+                .findFirst()
+                .orElseThrow();
+
+        assertSame(manager.getBudget(), budget.read(manager));
+        assertNull(budget.read(null));
+    }
+
+    @Test
+    void forClass_missingGetterFails() {
+        assertThrows(RuntimeException.class, () -> RedactionPlan.forClass(NoGetter.class));
+    }
+
+    @Test
+    void forClass_resolvesAliasesAndComposedAnnotations() {
+        var authorities = RedactionPlan.forClass(Patient.class).getFields().stream()
+                .collect(Collectors.toMap(field -> field.getField().getName(), RedactionField::getRequiredAuthority));
+
+        assertEquals(Map.of(
+                "ssn", "patient:ssn:read",
+                "email", "pii:read",
+                "diagnosis", "patient:diagnosis:read"
+        ), authorities);
+    }
+
+    @Getter
+    private static class Person {
+        String name = "John Doe";
+
+        @RedactAuthorize("person:password:read")
+        Redactable<String> password = Redactable.of("hunter2");
+    }
+
+    @Getter
+    private static class Manager extends Person {
+        @RedactAuthorize("manager:budget:read")
+        Redactable<Double> budget = Redactable.of(1_000_000.0);
+
+        @RedactAuthorize
+        Person team = new Person();
+    }
+
+    @Target(ElementType.FIELD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @RedactAuthorize("pii:read")
+    private @interface PiiField {
+        @AliasFor(annotation = RedactAuthorize.class, attribute = "readAuthority")
+        String authority() default "pii:read";
+    }
+
+    @Getter
+    private static class Patient {
+        @RedactAuthorize(readAuthority = "patient:ssn:read")
+        Redactable<String> ssn = Redactable.of("123-45-6789");
+
+        @PiiField
+        Redactable<String> email = Redactable.of("john@example.com");
+
+        @PiiField(authority = "patient:diagnosis:read")
+        Redactable<String> diagnosis = Redactable.of("healthy");
+    }
+
+    private static class NoGetter {
+        @RedactAuthorize("secret:read")
+        Redactable<String> secret = Redactable.of("shh");
+    }
+}
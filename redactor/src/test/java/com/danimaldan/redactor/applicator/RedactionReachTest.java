@@ -0,0 +1,254 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedactionReachTest {
+    private static final AtomicInteger READS = new AtomicInteger();
+
+    @Test
+    void forClass_collectsAuthoritiesOfReachableFinalTypes() {
+        var reach = RedactionReach.forClass(Team.class);
+
+        assertFalse(reach.isOpen());
+        assertEquals(Set.of("team:lead:read", "member:ssn:read", "member:team:read"), authoritiesOf(reach));
+    }
+
+    @Test
+    void forClass_isOpenForNonFinalFieldTypes() {
+        assertTrue(RedactionReach.forClass(OpenHolder.class).isOpen());
+        assertTrue(RedactionReach.forClass(ObjectHolder.class).isOpen());
+        assertEquals(1, RedactionReach.forClass(OpenHolder.class).getOpenFields().size());
+    }
+
+    @Test
+    void forClass_isClosedForPlainDtoWhoseFieldsAreClosed() {
+        var reach = RedactionReach.forClass(CustomerDto.class);
+
+        assertFalse(reach.isOpen());
+        assertEquals(Set.of("customer:ssn:read"), authoritiesOf(reach));
+    }
+
+    @Test
+    void redact_skipsPlainDtosWhenAllReachableAuthoritiesAreGranted() {
+        var customer = new CustomerDto(Redactable.of("123-45-6789"));
+        var invoice = new InvoiceDto(Redactable.of("100.00"), customer);
+        READS.set(0);
+
+        RedactionApplicatorFactory.create(customer, authority -> true).redact();
+
+        assertEquals(0, READS.get());
+
+        RedactionApplicatorFactory.create(invoice, authority -> true).redact();
+
+        // only the open customer field is read, the customer it holds is skipped by its runtime class
+        assertEquals(1, READS.get());
+        assertFalse(invoice.getTotal().isRedacted());
+    }
+
+    @Test
+    void redact_visitsSubclassesHeldByOpenFields() {
+        var customer = new PremiumCustomerDto(Redactable.of("123-45-6789"), Redactable.of("4111"));
+        var invoice = new InvoiceDto(Redactable.of("100.00"), customer);
+
+        RedactionApplicatorFactory.create(invoice, authority -> !authority.equals("customer:card:read")).redact();
+
+        assertFalse(invoice.getTotal().isRedacted());
+        assertFalse(customer.getSsn().isRedacted());
+        assertTrue(customer.getCard().isRedacted());
+    }
+
+    @Test
+    void forClass_isClosedForTypesWithoutRedactAuthorizeFields() {
+        var reach = RedactionReach.forClass(String.class);
+
+        assertFalse(reach.isOpen());
+        assertFalse(reach.canRedact(new RedactionContext(authority -> false)));
+    }
+
+    @Test
+    void redact_skipsGraphWhenAllReachableAuthoritiesAreGranted() {
+        var member = new Member(Redactable.of("123-45-6789"), null);
+        var team = new Team(Redactable.of(member), List.of(member), Map.of("m", member), Optional.empty());
+        READS.set(0);
+
+        RedactionApplicatorFactory.create(List.of(team, team), authority -> true).redact();
+
+        assertEquals(0, READS.get());
+        assertFalse(member.ssn.isRedacted());
+    }
+
+    @Test
+    void redact_walksGraphWhenAnyReachableAuthorityIsDenied() {
+        var member = new Member(Redactable.of("123-45-6789"), null);
+        var team = new Team(Redactable.of(member), List.of(member), Map.of("m", member), Optional.empty());
+
+        RedactionApplicatorFactory.create(team, authority -> !authority.equals("member:ssn:read")).redact();
+
+        assertTrue(member.ssn.isRedacted());
+    }
+
+    private static Set<String> authoritiesOf(RedactionReach reach) {
+        return Arrays.stream(reach.getAuthorityIds())
+                .mapToObj(AuthorityRegistry::authorityOf)
+                .collect(Collectors.toSet());
+    }
+
+    private static final class Team {
+        @RedactAuthorize("team:lead:read")
+        private final Redactable<Member> lead;
+
+        @RedactAuthorize
+        private final List<Member> members;
+
+        @RedactAuthorize
+        private final Map<String, Member> membersByName;
+
+        @RedactAuthorize
+        private final Optional<Member> captain;
+
+        Team(Redactable<Member> lead, List<Member> members, Map<String, Member> membersByName, Optional<Member> captain) {
+            this.lead = lead;
+            this.members = members;
+            this.membersByName = membersByName;
+            this.captain = captain;
+        }
+
+        public Redactable<Member> getLead() {
+            READS.incrementAndGet();
+
+            return lead;
+        }
+
+        public List<Member> getMembers() {
+            READS.incrementAndGet();
+
+            return members;
+        }
+
+        public Map<String, Member> getMembersByName() {
+            READS.incrementAndGet();
+
+            return membersByName;
+        }
+
+        public Optional<Member> getCaptain() {
+            READS.incrementAndGet();
+
+            return captain;
+        }
+    }
+
+    private static final class Member {
+        @RedactAuthorize("member:ssn:read")
+        private final Redactable<String> ssn;
+
+        // cycles back to Team
+        @RedactAuthorize("member:team:read")
+        private final Redactable<Team> team;
+
+        Member(Redactable<String> ssn, Redactable<Team> team) {
+            this.ssn = ssn;
+            this.team = team;
+        }
+
+        public Redactable<String> getSsn() {
+            READS.incrementAndGet();
+
+            return ssn;
+        }
+
+        public Redactable<Team> getTeam() {
+            READS.incrementAndGet();
+
+            return team;
+        }
+    }
+
+    private static class Holder {
+        @RedactAuthorize("holder:secret:read")
+        private final Redactable<String> secret = Redactable.of("secret");
+
+        public Redactable<String> getSecret() {
+            return secret;
+        }
+    }
+
+    private static final class OpenHolder {
+        @RedactAuthorize
+        private final Holder holder = new Holder();
+
+        public Holder getHolder() {
+            return holder;
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static class InvoiceDto {
+        @RedactAuthorize("invoice:total:read")
+        private Redactable<String> total;
+
+        @RedactAuthorize
+        private CustomerDto customer;
+
+        public Redactable<String> getTotal() {
+            READS.incrementAndGet();
+
+            return total;
+        }
+
+        public CustomerDto getCustomer() {
+            READS.incrementAndGet();
+
+            return customer;
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static class CustomerDto {
+        @RedactAuthorize("customer:ssn:read")
+        private Redactable<String> ssn;
+
+        public Redactable<String> getSsn() {
+            READS.incrementAndGet();
+
+            return ssn;
+        }
+    }
+
+    @Getter
+    private static class PremiumCustomerDto extends CustomerDto {
+        @RedactAuthorize("customer:card:read")
+        private final Redactable<String> card;
+
+        PremiumCustomerDto(Redactable<String> ssn, Redactable<String> card) {
+            super(ssn);
+            this.card = card;
+        }
+    }
+
+    private static final class ObjectHolder {
+        @RedactAuthorize
+        private final Redactable<Object> value = Redactable.of("value");
+
+        public Redactable<Object> getValue() {
+            return value;
+        }
+    }
+}
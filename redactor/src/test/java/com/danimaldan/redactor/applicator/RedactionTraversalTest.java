@@ -0,0 +1,285 @@
+package com.danimaldan.redactor.applicator;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedactionTraversalTest {
+    private static final HasAuthorityPredicate NOTHING_PASSES_HAS_AUTHORITY_PREDICATE = authority -> false;
+    private static final HasAuthorityPredicate ALL_BUT_TOTAL_HAS_AUTHORITY_PREDICATE = authority -> !"order:total:read".equals(authority);
+
+    @Test
+    void redact_terminatesOnBidirectionalGraph() {
+        var customer = new Customer();
+        var order1 = new Order(customer);
+        var order2 = new Order(customer);
+        customer.getOrders().add(order1);
+        customer.getOrders().add(order2);
+
+        RedactionApplicatorFactory.create(order1, ALL_BUT_TOTAL_HAS_AUTHORITY_PREDICATE).redact();
+
+        assertTrue(order1.getTotal().isRedacted());
+        assertTrue(order2.getTotal().isRedacted());
+    }
+
+    @Test
+    void redact_terminatesOnSelfContainingList() {
+        List<Object> list = new ArrayList<>();
+        var order = new Order(null);
+        list.add(list);
+        list.add(order);
+
+        RedactionApplicatorFactory.create(list, ALL_BUT_TOTAL_HAS_AUTHORITY_PREDICATE).redact();
+
+        assertTrue(order.getTotal().isRedacted());
+    }
+
+    @Test
+    void redact_visitsSharedObjectOnce() {
+        var reads = new AtomicInteger();
+        var shared = new CountingNode(reads, null);
+        var parents = IntStream.range(0, 10)
+                .mapToObj(i -> new CountingNode(new AtomicInteger(), shared))
+                .toList();
+
+        RedactionApplicatorFactory.create(parents, NOTHING_PASSES_HAS_AUTHORITY_PREDICATE).redact();
+
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    void redact_visitsObjectSharedAcrossParallelBatchesOnce() {
+        var reads = new AtomicInteger();
+        var shared = new CountingNode(reads, null);
+        var parents = IntStream.range(0, 20_000)
+                .mapToObj(i -> new CountingNode(new AtomicInteger(), shared))
+                .toList();
+        var forkJoinPool = new ForkJoinPool(4);
+
+        try {
+            var options = RedactionOptions.builder()
+                    .parallelThreshold(1_000)
+                    .forkJoinPool(forkJoinPool)
+                    .build();
+
+            RedactionApplicatorFactory.create(parents, authority -> false, options).redact();
+        } finally {
+            forkJoinPool.shutdown();
+        }
+
+        assertEquals(1, reads.get());
+        assertTrue(shared.getSecret().isRedacted());
+        parents.forEach(parent -> assertTrue(parent.getSecret().isRedacted()));
+    }
+
+    @Test
+    void redact_looksUpPlanOncePerClassChange() {
+        var orders = IntStream.range(0, 100).mapToObj(i -> new Order(null)).toList();
+        var lookups = new AtomicInteger();
+        var options = RedactionOptions.builder()
+                .metrics(new RedactionMetrics() {
+                    @Override
+                    public void planLookedUp(Class<?> type, boolean firstUse) {
+                        lookups.incrementAndGet();
+                    }
+                })
+                .build();
+
+        RedactionApplicatorFactory.create(orders, ALL_BUT_TOTAL_HAS_AUTHORITY_PREDICATE, options).redact();
+
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    void redact_handlesDeepGraphsWithoutRecursion() {
+        var leaf = new CountingNode(new AtomicInteger(), null);
+        var root = leaf;
+        for (int i = 0; i < 100_000; i++) {
+            root = new CountingNode(new AtomicInteger(), root);
+        }
+
+        RedactionApplicatorFactory.create(root, NOTHING_PASSES_HAS_AUTHORITY_PREDICATE).redact();
+
+        assertEquals(1, leaf.getReads().get());
+    }
+
+    @Test
+    void redact_leavesValuesThatAreNotLoadedWhenNothingWithinCanBeRedacted() {
+        var lazy = new CountingNode(new AtomicInteger(), null);
+        var root = new CountingNode(new AtomicInteger(), lazy);
+        var options = RedactionOptions.builder()
+                .loadStatePredicate(value -> value != lazy)
+                .build();
+
+        RedactionApplicatorFactory.create(root, authority -> true, options).redact();
+
+        assertFalse(lazy.secret.isRedacted());
+        assertEquals(0, lazy.getReads().get());
+    }
+
+    @Test
+    void redact_failsClosedOnValuesThatAreNotLoaded() {
+        var lazy = new CountingNode(new AtomicInteger(), null);
+        var root = new CountingNode(new AtomicInteger(), lazy);
+        var options = RedactionOptions.builder()
+                .loadStatePredicate(value -> value != lazy)
+                .build();
+
+        var applicator = RedactionApplicatorFactory.create(root, authority -> false, options);
+
+        assertThrows(IllegalStateException.class, applicator::redact);
+        assertEquals(0, lazy.getReads().get());
+    }
+
+    @Test
+    void redact_redactsRedactablesHoldingValuesThatAreNotLoaded() {
+        var lazy = new CountingNode(new AtomicInteger(), null);
+        var holder = new LazyHolder(Redactable.of(lazy));
+        var options = RedactionOptions.builder()
+                .loadStatePredicate(value -> value != lazy)
+                .build();
+
+        RedactionApplicatorFactory.create(holder, authority -> false, options).redact();
+
+        assertTrue(holder.getNode().isRedacted());
+        assertEquals(0, lazy.getReads().get());
+    }
+
+    @Test
+    void redact_neverReadsFieldsThatAreNotLoaded() {
+        var next = new CountingNode(new AtomicInteger(), null);
+        var root = new CountingNode(new AtomicInteger(), next);
+        var options = RedactionOptions.builder()
+                .loadStatePredicate(new LoadStatePredicate() {
+                    @Override
+                    public boolean isLoaded(Object value) {
+                        return true;
+                    }
+
+                    @Override
+                    public boolean isLoaded(Object owner, String attribute) {
+                        return !"secret".equals(attribute);
+                    }
+                })
+                .build();
+
+        RedactionApplicatorFactory.create(root, authority -> true, options).redact();
+
+        assertEquals(0, root.getReads().get());
+        assertEquals(0, next.getReads().get());
+
+        // a denied field cannot be redacted without reading it
+        var applicator = RedactionApplicatorFactory.create(root, authority -> false, options);
+
+        assertThrows(IllegalStateException.class, applicator::redact);
+        assertFalse(root.secret.isRedacted());
+    }
+
+    @Test
+    void copy_sharesValuesThatAreNotLoaded() {
+        var lazy = new CountingNode(new AtomicInteger(), null);
+        var options = RedactionOptions.builder()
+                .loadStatePredicate(value -> value != lazy)
+                .build();
+
+        var copy = RedactionApplicatorFactory.copy(List.of(lazy), new RedactionContext(authority -> true, options));
+
+        assertSame(lazy, copy.get(0));
+        assertThrows(IllegalStateException.class, () -> RedactionApplicatorFactory.copy(List.of(lazy), new RedactionContext(authority -> false, options)));
+        assertEquals(0, lazy.getReads().get());
+    }
+
+    @Test
+    void copy_redactsRedactablesHoldingValuesThatAreNotLoaded() {
+        var lazy = new CountingNode(new AtomicInteger(), null);
+        var holder = new LazyHolder(Redactable.of(lazy));
+        var options = RedactionOptions.builder()
+                .loadStatePredicate(value -> value != lazy)
+                .build();
+
+        var copy = RedactionApplicatorFactory.copy(holder, new RedactionContext(authority -> false, options));
+
+        assertTrue(copy.getNode().isRedacted());
+        assertFalse(holder.getNode().isRedacted());
+        assertEquals(0, lazy.getReads().get());
+    }
+
+    @Test
+    void identityHashSet_comparesByIdentityAndGrows() {
+        var set = new IdentityHashSet();
+        var first = new String("bananas");
+        var second = new String("bananas");
+
+        assertTrue(set.add(first));
+        assertTrue(set.add(second));
+        assertFalse(set.add(first));
+
+        var values = IntStream.range(0, 1_000).mapToObj(i -> new Object()).toList();
+        values.forEach(set::add);
+        values.forEach(value -> assertFalse(set.add(value)));
+        assertEquals(1_002, set.size());
+    }
+
+    @Getter
+    private static class Customer {
+        @RedactAuthorize("customer:orders:read")
+        private final List<Order> orders = new ArrayList<>();
+    }
+
+    @Getter
+    private static class Order {
+        @RedactAuthorize("customer:read")
+        private final Customer customer;
+
+        @RedactAuthorize("order:total:read")
+        private final Redactable<Double> total = Redactable.of(42.0);
+
+        Order(Customer customer) {
+            this.customer = customer;
+        }
+    }
+
+    @Value
+    private static class LazyHolder {
+        @RedactAuthorize
+        Redactable<CountingNode> node;
+    }
+
+    @Setter
+    private static class CountingNode {
+        @Getter
+        private final AtomicInteger reads;
+
+        @RedactAuthorize
+        private final CountingNode next;
+
+        @RedactAuthorize("node:secret:read")
+        private final Redactable<String> secret = Redactable.of("secret");
+
+        CountingNode(AtomicInteger reads, CountingNode next) {
+            this.reads = reads;
+            this.next = next;
+        }
+
+        public CountingNode getNext() {
+            return next;
+        }
+
+        public Redactable<String> getSecret() {
+            reads.incrementAndGet();
+
+            return secret;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.danimaldan.redactor.autoconfigure;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import com.danimaldan.redactor.aop.Redact;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedactionPlanInitializerTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(RedactorAutoConfiguration.class));
+
+    @Test
+    void startup_precompilesRedactReturnTypes() {
+        contextRunner.withUserConfiguration(ValidConfiguration.class)
+                .run(context -> assertNull(context.getStartupFailure()));
+    }
+
+    @Test
+    void startup_failsForFieldsThatCannotBeRedacted() {
+        contextRunner.withUserConfiguration(InvalidConfiguration.class)
+                .run(context -> {
+                    var failure = context.getStartupFailure();
+                    assertNotNull(failure);
+                    assertTrue(failure.getMessage().contains("account:number:read"));
+                });
+    }
+
+    @Test
+    void startup_scansBasePackagesForFieldsThatCannotBeRedacted() {
+        contextRunner.withPropertyValues("redactor.precompile.base-packages=com.danimaldan.redactor.autoconfigure")
+                .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @Test
+    void startup_skipsPrecompilationWhenDisabled() {
+        contextRunner.withUserConfiguration(InvalidConfiguration.class)
+                .withPropertyValues("redactor.precompile.enabled=false")
+                .run(context -> assertNull(context.getStartupFailure()));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class ValidConfiguration {
+        @Bean
+        UserService userService() {
+            return new UserService();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class InvalidConfiguration {
+        @Bean
+        AccountService accountService() {
+            return new AccountService();
+        }
+    }
+
+    static class UserService {
+        @Redact
+        public List<User> getUsers() {
+            return List.of();
+        }
+    }
+
+    static class AccountService {
+        @Redact
+        public Account getAccount() {
+            return new Account("123");
+        }
+    }
+
+    @Value
+    static class User {
+        @RedactAuthorize("user:password:read")
+        Redactable<String> password;
+    }
+
+    @Value
+    static class Account {
+        @RedactAuthorize("account:number:read")
+        String number;
+    }
+}
@@ -0,0 +1,104 @@
+package com.danimaldan.redactor.jackson;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import com.danimaldan.redactor.applicator.HasAuthorityPredicate;
+import com.danimaldan.redactor.masking.PartialMaskingStrategy;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedactorModuleTest {
+    private static final HasAuthorityPredicate ALWAYS_PASS_HAS_AUTHORITY_PREDICATE = authority -> true;
+    private static final HasAuthorityPredicate NOTHING_PASSES_HAS_AUTHORITY_PREDICATE = authority -> false;
+
+    @Test
+    void serialize_writesUnauthorizedPropertyAsRedactedWithoutMutating() throws Exception {
+        var user = new User("bananas", Redactable.of("foster"));
+        var mapper = new ObjectMapper().registerModule(new RedactorModule(NOTHING_PASSES_HAS_AUTHORITY_PREDICATE));
+
+        var json = mapper.writeValueAsString(user);
+
+        assertEquals("{\"username\":\"bananas\",\"password\":{\"value\":null,\"redacted\":true}}", json);
+        assertEquals("foster", user.getPassword().getValue());
+        assertFalse(user.getPassword().isRedacted());
+    }
+
+    @Test
+    void serialize_omitsUnauthorizedPropertyWhenConfigured() throws Exception {
+        var user = new User("bananas", Redactable.of("foster"));
+        var mapper = new ObjectMapper().registerModule(new RedactorModule(NOTHING_PASSES_HAS_AUTHORITY_PREDICATE, true));
+
+        assertEquals("{\"username\":\"bananas\"}", mapper.writeValueAsString(user));
+    }
+
+    @Test
+    void serialize_writesAuthorizedPropertyAsIs() throws Exception {
+        var user = new User("bananas", Redactable.of("foster"));
+        var mapper = new ObjectMapper().registerModule(new RedactorModule(ALWAYS_PASS_HAS_AUTHORITY_PREDICATE));
+
+        assertEquals("{\"username\":\"bananas\",\"password\":{\"value\":\"foster\",\"redacted\":false}}", mapper.writeValueAsString(user));
+    }
+
+    @Test
+    void serialize_redactsNestedPropertiesAndChecksEachAuthorityOncePerWrite() throws Exception {
+        List<String> checkedAuthorities = new ArrayList<>();
+        var team = new Team(List.of(new User("a", Redactable.of("a")), new User("b", Redactable.of("b"))));
+        var mapper = new ObjectMapper().registerModule(new RedactorModule(authority -> {
+            checkedAuthorities.add(authority);
+
+            return false;
+        }, true));
+
+        assertEquals("{\"members\":[{\"username\":\"a\"},{\"username\":\"b\"}]}", mapper.writeValueAsString(team));
+        assertEquals(List.of("password:read"), checkedAuthorities);
+    }
+
+    @Test
+    void serialize_writesMaskedValueOfUnauthorizedProperty() throws Exception {
+        var card = new Card(Redactable.of("4111-1111-1111-1234"));
+        var mapper = new ObjectMapper().registerModule(new RedactorModule(NOTHING_PASSES_HAS_AUTHORITY_PREDICATE));
+
+        assertEquals("{\"number\":{\"value\":\"****-****-****-1234\",\"redacted\":true}}", mapper.writeValueAsString(card));
+        assertEquals("4111-1111-1111-1234", card.getNumber().getValue());
+    }
+
+    @Test
+    void serialize_failsForUnauthorizedNonRedactableProperty() {
+        var mapper = new ObjectMapper().registerModule(new RedactorModule(NOTHING_PASSES_HAS_AUTHORITY_PREDICATE));
+
+        assertThrows(JsonMappingException.class, () -> mapper.writeValueAsString(new Account("1234")));
+    }
+
+    @Value
+    private static class User {
+        String username;
+
+        @RedactAuthorize("password:read")
+        Redactable<String> password;
+    }
+
+    @Value
+    private static class Team {
+        @RedactAuthorize
+        List<User> members;
+    }
+
+    @Value
+    private static class Card {
+        @RedactAuthorize(value = "card:read", mask = PartialMaskingStrategy.class)
+        Redactable<String> number;
+    }
+
+    @Value
+    private static class Account {
+        @RedactAuthorize("account:pin:read")
+        String pin;
+    }
+}
@@ -0,0 +1,41 @@
+package com.danimaldan.redactor.jpa;
+
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.Embeddable;
+import javax.persistence.Entity;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistenceLoadStatePredicateTest {
+    private final PersistenceLoadStatePredicate loadStatePredicate = new PersistenceLoadStatePredicate(List.of());
+
+    @Test
+    void mayHoldUnloaded_onlyForEntitiesEmbeddablesAndTheirSubclasses() {
+        assertTrue(loadStatePredicate.mayHoldUnloaded(Employee.class));
+        assertTrue(loadStatePredicate.mayHoldUnloaded(EmployeeProxy.class));
+        assertTrue(loadStatePredicate.mayHoldUnloaded(Address.class));
+        assertFalse(loadStatePredicate.mayHoldUnloaded(EmployeeDto.class));
+    }
+
+    @Test
+    void isLoaded_treatsValuesNoProviderKnowsAsLoaded() {
+        assertTrue(loadStatePredicate.isLoaded(new Employee()));
+        assertTrue(loadStatePredicate.isLoaded(new Employee(), "name"));
+    }
+
+    @Entity
+    private static class Employee {
+    }
+
+    private static class EmployeeProxy extends Employee {
+    }
+
+    @Embeddable
+    private static class Address {
+    }
+
+    private static class EmployeeDto {
+    }
+}
@@ -0,0 +1,128 @@
+package com.danimaldan.redactor.masking;
+
+import com.danimaldan.redactor.RedactAuthorize;
+import com.danimaldan.redactor.Redactable;
+import com.danimaldan.redactor.applicator.RedactionApplicatorFactory;
+import com.danimaldan.redactor.applicator.RedactionContext;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MaskingStrategyTest {
+    @Test
+    void partial_keepsLastCharactersAndSeparators() {
+        var mask = new PartialMaskingStrategy();
+
+        assertEquals("***-**-6789", mask.mask("123-45-6789"));
+        assertEquals("**34", mask.mask("1234"));
+        assertEquals("", mask.mask(""));
+    }
+
+    @Test
+    void hash_isStableHexSha256() {
+        var mask = new HashMaskingStrategy();
+
+        assertEquals("9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08", mask.mask("test"));
+        assertEquals(mask.mask("123-45-6789"), mask.mask("123-45-6789"));
+        assertNotEquals(mask.mask("123-45-6789"), new KeyedHashMaskingStrategy().mask("123-45-6789"));
+    }
+
+    @Test
+    void tokenize_keepsFormatAndIsStable() {
+        var mask = new TokenizeMaskingStrategy();
+        var token = mask.mask("123-45-6789 Ab");
+
+        assertTrue(token.matches("\\d{3}-\\d{2}-\\d{4} [A-Z][a-z]"), token);
+        assertEquals(token, mask.mask("123-45-6789 Ab"));
+        assertNotEquals(token, mask.mask("123-45-6788 Ab"));
+    }
+
+    @Test
+    void redact_masksDeniedFieldsOnce() {
+        var person = new Person(Redactable.of("123-45-6789"), Redactable.of("foster"));
+
+        RedactionApplicatorFactory.create(person, authority -> false).redact();
+        RedactionApplicatorFactory.create(person, authority -> false).redact();
+
+        assertEquals("***-**-6789", person.getSsn().getValue());
+        assertTrue(person.getSsn().isRedacted());
+        assertNull(person.getPassword().getValue());
+        assertTrue(person.getPassword().isRedacted());
+    }
+
+    @Test
+    void copy_masksDeniedFieldsWithoutMutating() {
+        var person = new Person(Redactable.of("123-45-6789"), Redactable.of("foster"));
+
+        var copy = RedactionApplicatorFactory.copy(person, new RedactionContext(authority -> false));
+
+        assertEquals("***-**-6789", copy.getSsn().getValue());
+        assertTrue(copy.getSsn().isRedacted());
+        assertSame(Redactable.redacted(), copy.getPassword());
+        assertEquals("123-45-6789", person.getSsn().getValue());
+    }
+
+    @Test
+    void redact_masksValuesSharedByConcurrentRedactionsOnce() {
+        var ssn = Redactable.of("123-45-6789");
+        var expected = new HashMaskingStrategy().mask("123-45-6789");
+
+        IntStream.range(0, 1_000).parallel()
+                .mapToObj(i -> new Hashed(ssn))
+                .forEach(hashed -> RedactionApplicatorFactory.create(hashed, authority -> false).redact());
+
+        assertEquals(expected, ssn.getValue());
+    }
+
+    @Test
+    void redact_failsForMasksTheFieldCannotHold() {
+        var numbered = new Numbered(Redactable.of(42));
+
+        var e = assertThrows(IllegalArgumentException.class, () -> RedactionApplicatorFactory.create(numbered, authority -> false).redact());
+
+        assertTrue(e.getMessage().contains("java.lang.String"), e.getMessage());
+        assertTrue(e.getMessage().contains("java.lang.Integer"), e.getMessage());
+    }
+
+    @Test
+    void maskedType_isTheDeclaredReturnType() {
+        assertEquals(String.class, MaskingStrategies.maskedType(new TokenizeMaskingStrategy()));
+        assertEquals(Object.class, MaskingStrategies.maskedType(value -> value));
+    }
+
+    @Test
+    void forClass_sharesInstancesAndSkipsNullStrategy() {
+        assertNull(MaskingStrategies.forClass(NullMaskingStrategy.class));
+        assertSame(MaskingStrategies.forClass(HashMaskingStrategy.class), MaskingStrategies.forClass(HashMaskingStrategy.class));
+    }
+
+    static class KeyedHashMaskingStrategy extends HashMaskingStrategy {
+        KeyedHashMaskingStrategy() {
+            super("SHA-256", "secret".getBytes());
+        }
+    }
+
+    @Value
+    private static class Person {
+        @RedactAuthorize(value = "ssn:read", mask = PartialMaskingStrategy.class)
+        Redactable<String> ssn;
+
+        @RedactAuthorize("password:read")
+        Redactable<String> password;
+    }
+
+    @Value
+    private static class Hashed {
+        @RedactAuthorize(value = "ssn:read", mask = HashMaskingStrategy.class)
+        Redactable<String> ssn;
+    }
+
+    @Value
+    private static class Numbered {
+        @RedactAuthorize(value = "number:read", mask = PartialMaskingStrategy.class)
+        Redactable<Integer> number;
+    }
+}
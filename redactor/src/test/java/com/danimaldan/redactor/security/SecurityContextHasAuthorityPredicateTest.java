@@ -0,0 +1,49 @@
+package com.danimaldan.redactor.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SecurityContextHasAuthorityPredicateTest {
+    private final SecurityContextHasAuthorityPredicate predicate = new SecurityContextHasAuthorityPredicate();
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void hasAuthority_noAuthenticationDeniesEverything() {
+        assertFalse(predicate.hasAuthority("user:password:read"));
+        assertSame(AuthoritySnapshot.EMPTY, predicate.snapshot());
+    }
+
+    @Test
+    void hasAuthority_checksCurrentAuthentication() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("john", null, "user:password:read"));
+
+        assertTrue(predicate.hasAuthority("user:password:read"));
+        assertFalse(predicate.hasAuthority("user:DriversLicense:read"));
+    }
+
+    @Test
+    void snapshot_isUnaffectedByLaterChangesToSecurityContext() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("john", null, "user:password:read", "employment:salary:read"));
+
+        var snapshot = predicate.snapshot();
+        SecurityContextHolder.clearContext();
+
+        assertEquals(Set.of("user:password:read", "employment:salary:read"), snapshot.getAuthorities());
+        assertTrue(snapshot.hasAuthority("user:password:read"));
+        assertSame(snapshot, snapshot.snapshot());
+
+        // the snapshot can be read from a thread without the security context
+        assertTrue(CompletableFuture.supplyAsync(() -> snapshot.hasAuthority("employment:salary:read")).get());
+    }
+}